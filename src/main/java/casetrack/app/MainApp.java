@@ -1,6 +1,7 @@
 package casetrack.app;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,6 +11,7 @@ import casetrack.app.commons.core.LogsCenter;
 import casetrack.app.commons.core.Version;
 import casetrack.app.commons.exceptions.DataLoadingException;
 import casetrack.app.commons.util.ConfigUtil;
+import casetrack.app.commons.util.FileUtil;
 import casetrack.app.commons.util.StringUtil;
 import casetrack.app.logic.Logic;
 import casetrack.app.logic.LogicManager;
@@ -21,8 +23,11 @@ import casetrack.app.model.ReadOnlyUserPrefs;
 import casetrack.app.model.UserPrefs;
 import casetrack.app.model.util.SampleDataUtil;
 import casetrack.app.storage.AddressBookStorage;
+import casetrack.app.storage.BackgroundAddressBookSaver;
+import casetrack.app.storage.BinaryAddressBookStorage;
 import casetrack.app.storage.JsonAddressBookStorage;
 import casetrack.app.storage.JsonUserPrefsStorage;
+import casetrack.app.storage.ShardedAddressBookStorage;
 import casetrack.app.storage.Storage;
 import casetrack.app.storage.StorageManager;
 import casetrack.app.storage.UserPrefsStorage;
@@ -38,6 +43,12 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
 
+    /**
+     * Appended to the path of the json file to name the file that marks it as possibly older than the data saved in
+     * another format, which exists from when the data is loaded in that format until it is exported back to json.
+     */
+    public static final String OUTDATED_JSON_MARKER_SUFFIX = ".outdated";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +57,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // True if the address book is kept in another format and was loaded, so it is exported to json when stopping
+    private boolean isJsonExportNeeded = false;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -54,22 +68,47 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        FileUtil.setDurabilityLevel(config.getDurabilityLevel());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, new BackgroundAddressBookSaver(storage));
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the address book file in {@code userPrefs}, in the format chosen
+     * in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.toBinaryFilePath(filePath),
+                    config.isLazyLoadEnabled());
+        case SHARDED:
+            return new ShardedAddressBookStorage(ShardedAddressBookStorage.toShardDirectoryPath(filePath),
+                    config.isParallelLoadEnabled());
+        case JSON:
+            return new JsonAddressBookStorage(filePath, config.isParallelLoadEnabled(), config.isCompressionEnabled());
+        default:
+            throw new AssertionError("Unknown address book format: " + userPrefs.getAddressBookFormat());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * Changes saved to the journal of {@code storage}'s address book are replayed onto the data read. <br>
+     * If {@code storage}'s address book is not in json format and is not found, the data is imported from the json
+     * file in {@code userPrefs} instead, unless that file may be older than the data last saved to {@code storage}.
+     * <br>
+     * The data from the sample address book will be used instead if no address book is found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
@@ -79,11 +118,16 @@ public class MainApp extends Application {
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
+            if (addressBookOptional.isPresent()) {
+                initialData = storage.replayAddressBookChanges(addressBookOptional.get());
+            } else {
+                initialData = importJsonAddressBook(storage, userPrefs).orElseGet(() -> {
+                    logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                            + " populated with a sample AddressBook.");
+                    return SampleDataUtil.getSampleAddressBook();
+                });
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            markJsonOutdated(storage, userPrefs);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -93,6 +137,75 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the address book in the json file in {@code userPrefs}, if {@code storage} keeps its data elsewhere.
+     * The data is saved into {@code storage} the next time the address book is saved.
+     *
+     * @throws DataLoadingException if the json file may be older than the data last saved to {@code storage}, which
+     *     is then missing, as the application stopped before exporting that data back to json.
+     */
+    private Optional<ReadOnlyAddressBook> importJsonAddressBook(Storage storage, ReadOnlyUserPrefs userPrefs)
+            throws DataLoadingException {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        if (jsonFilePath.equals(storage.getAddressBookFilePath())) {
+            return Optional.empty();
+        }
+
+        Path markerPath = getOutdatedJsonMarkerPath(jsonFilePath);
+        if (Files.exists(markerPath)) {
+            logger.severe("Data file " + storage.getAddressBookFilePath() + " is missing, and " + jsonFilePath
+                    + " was not imported as it may be older than the data last saved there."
+                    + " Delete " + markerPath + " to import it anyway.");
+            throw new DataLoadingException(new IOException("Json data file may be outdated: " + jsonFilePath));
+        }
+
+        Optional<ReadOnlyAddressBook> jsonAddressBook =
+                new JsonAddressBookStorage(jsonFilePath, config.isParallelLoadEnabled()).readAddressBook();
+        if (jsonAddressBook.isPresent()) {
+            logger.info("Importing data file " + jsonFilePath + " into " + storage.getAddressBookFilePath());
+        }
+        return jsonAddressBook;
+    }
+
+    /**
+     * Marks the json file in {@code userPrefs} as possibly older than the data in {@code storage}, if {@code storage}
+     * keeps its data elsewhere, until the data is exported back to json when the application stops.
+     */
+    private void markJsonOutdated(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        if (jsonFilePath.equals(storage.getAddressBookFilePath())) {
+            return;
+        }
+
+        try {
+            FileUtil.createIfMissing(getOutdatedJsonMarkerPath(jsonFilePath));
+            isJsonExportNeeded = true;
+        } catch (IOException e) {
+            logger.warning("Could not mark " + jsonFilePath + " as outdated, so data will not be exported to it: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the address book in json format to the json file in {@code userPrefs}, so that the json file stays up to
+     * date while the address book is kept in another format, and removes the mark that it is outdated.
+     */
+    private void exportJsonAddressBook(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        try {
+            new JsonAddressBookStorage(jsonFilePath, config.isParallelLoadEnabled(), config.isCompressionEnabled())
+                    .saveAddressBook(model.getAddressBook());
+            Files.deleteIfExists(getOutdatedJsonMarkerPath(jsonFilePath));
+            logger.info("Exported data file " + storage.getAddressBookFilePath() + " to " + jsonFilePath);
+        } catch (IOException e) {
+            logger.severe("Failed to export data to " + jsonFilePath + " " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static Path getOutdatedJsonMarkerPath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + OUTDATED_JSON_MARKER_SUFFIX);
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +290,10 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flushPendingSaves();
+        if (isJsonExportNeeded) {
+            exportJsonAddressBook(model.getUserPrefs());
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
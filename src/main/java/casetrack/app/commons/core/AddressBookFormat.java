@@ -0,0 +1,13 @@
+package casetrack.app.commons.core;
+
+/**
+ * Formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** A json file, which is human-readable and is used to exchange data with other applications. */
+    JSON,
+    /** A compact binary snapshot, which is faster to read and write than json. */
+    BINARY,
+    /** A directory with a json file for each person, of which only the files of changed persons are rewritten. */
+    SHARDED
+}
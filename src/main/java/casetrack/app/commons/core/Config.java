@@ -17,6 +17,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean parallelLoadEnabled = true;
+    private boolean lazyLoadEnabled = false;
+    private boolean compressionEnabled = false;
+    private DurabilityLevel durabilityLevel = DurabilityLevel.FSYNC;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,50 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if persons in the address book file are converted on multiple threads when the app starts.
+     */
+    public boolean isParallelLoadEnabled() {
+        return parallelLoadEnabled;
+    }
+
+    public void setParallelLoadEnabled(boolean parallelLoadEnabled) {
+        this.parallelLoadEnabled = parallelLoadEnabled;
+    }
+
+    /**
+     * Returns true if the notes in a binary address book file are only read when they are first needed.
+     */
+    public boolean isLazyLoadEnabled() {
+        return lazyLoadEnabled;
+    }
+
+    public void setLazyLoadEnabled(boolean lazyLoadEnabled) {
+        this.lazyLoadEnabled = lazyLoadEnabled;
+    }
+
+    /**
+     * Returns true if the json address book file is saved compressed with gzip.
+     */
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    /**
+     * Returns how far saved files are forced to disk before a save completes.
+     */
+    public DurabilityLevel getDurabilityLevel() {
+        return durabilityLevel;
+    }
+
+    public void setDurabilityLevel(DurabilityLevel durabilityLevel) {
+        this.durabilityLevel = durabilityLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +95,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && parallelLoadEnabled == otherConfig.parallelLoadEnabled
+                && lazyLoadEnabled == otherConfig.lazyLoadEnabled
+                && compressionEnabled == otherConfig.compressionEnabled
+                && durabilityLevel == otherConfig.durabilityLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, parallelLoadEnabled, lazyLoadEnabled, compressionEnabled,
+                durabilityLevel);
     }
 
     @Override
@@ -60,6 +113,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("parallelLoadEnabled", parallelLoadEnabled)
+                .add("lazyLoadEnabled", lazyLoadEnabled)
+                .add("compressionEnabled", compressionEnabled)
+                .add("durabilityLevel", durabilityLevel)
                 .toString();
     }
 
@@ -0,0 +1,15 @@
+package casetrack.app.commons.core;
+
+/**
+ * How far a saved file is forced towards the disk before the save is considered complete.
+ * Each level is safer than the previous one, at the cost of slower saves. Files are always written to a temporary
+ * file that then replaces the original, so the original file is never left partially written by a crash of the app.
+ */
+public enum DurabilityLevel {
+    /** Saved data is left to the operating system to write to disk, and may be lost if the system crashes. */
+    NONE,
+    /** The contents of saved files are forced to disk, but not necessarily their file system metadata. */
+    FLUSH,
+    /** The contents and metadata of saved files, and the directories that list them, are forced to disk. */
+    FSYNC
+}
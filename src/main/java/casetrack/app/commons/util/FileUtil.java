@@ -1,10 +1,26 @@
 package casetrack.app.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+import casetrack.app.commons.core.DurabilityLevel;
 
 /**
  * Writes and reads files
@@ -12,6 +28,31 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private static DurabilityLevel durabilityLevel = DurabilityLevel.FSYNC;
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    public static DurabilityLevel getDurabilityLevel() {
+        return durabilityLevel;
+    }
+
+    /**
+     * Sets how far files written by this class are forced to disk before the write returns.
+     */
+    public static void setDurabilityLevel(DurabilityLevel durabilityLevel) {
+        requireNonNull(durabilityLevel);
+        FileUtil.durabilityLevel = durabilityLevel;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +113,152 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns a buffered stream of the contents of a file, decompressed if the file was compressed with gzip.
+     * The caller is responsible for closing the stream.
+     */
+    public static InputStream openDecompressedInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = (in.read() | (in.read() << 8)) == GZIP_MAGIC;
+            in.reset();
+            return isCompressed ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, byte[])
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file.
+     * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        writeToFile(file, out -> out.write(content));
+    }
+
+    /**
+     * Writes the contents written by {@code contentWriter} to a file, without holding all of them in memory.
+     * Will create the file if it does not exist yet.
+     * The contents are written to a temporary file that then replaces the file, so the file either keeps its old
+     * contents or has the new contents even if the app crashes during the write. The contents are forced to disk as
+     * far as required by the durability level. If the write fails, the temporary file is deleted and the file is
+     * left as it was.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new UnclosableOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+                contentWriter.writeTo(out);
+                out.flush();
+                force(channel);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteTempFile(tempFile, e);
+            throw e;
+        }
+        if (durabilityLevel == DurabilityLevel.FSYNC) {
+            forceParentDir(file);
+        }
+    }
+
+    /**
+     * Deletes {@code tempFile}, left by a write that failed with {@code cause}.
+     * If it cannot be deleted, the error is added to {@code cause}, which is the error reported to the caller.
+     */
+    private static void deleteTempFile(Path tempFile, Exception cause) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException ioe) {
+            cause.addSuppressed(ioe);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     * The appended string is forced to disk as far as required by the durability level.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            force(channel);
+        }
+    }
+
+    /**
+     * Forces the data written to {@code channel} to disk, as far as required by the durability level.
+     */
+    private static void force(FileChannel channel) throws IOException {
+        switch (durabilityLevel) {
+        case FSYNC:
+            channel.force(true);
+            break;
+        case FLUSH:
+            channel.force(false);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Forces the entry of {@code file} in its directory to disk, so that a file moved into the directory stays there
+     * if the system crashes. Does nothing on platforms where directories cannot be opened, such as Windows.
+     */
+    private static void forceParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move itself has succeeded, so the file is only at risk if the system crashes
+        }
+    }
+
+    /**
+     * An output stream that is only flushed when closed, so that the file channel it writes to can still be
+     * forced to disk after a {@link ContentWriter} closes it.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
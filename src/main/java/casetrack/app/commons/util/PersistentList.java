@@ -0,0 +1,258 @@
+package casetrack.app.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list that is changed by making a new list which shares all but O(log n) of its structure with the
+ * old one, so that adding, replacing or removing an element takes O(log n) time and space however long the list is.
+ *
+ * The elements are kept in an AVL tree ordered by their index in the list, in which each node records the size of
+ * its subtree. A change copies only the nodes on the path from the root to the element changed, rebalancing them on
+ * the way back up, and leaves every other node shared by both lists.
+ *
+ * Like the lists returned by {@link List#of}, the list throws {@code UnsupportedOperationException} if modification
+ * is attempted through the {@code List} interface, and does not allow null elements.
+ *
+ * @param <E> the type of elements in the list
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements} in the order of its iterator, or {@code elements} itself if
+     * it is already a {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    /**
+     * Returns a list with {@code element} added to the end of this list.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index} of this list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size of this list
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} of this list replaced with {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not the index of an element of this list
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} of this list removed.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not the index of an element of this list
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns an iterator over the elements in order, which takes O(1) amortized time for each element rather than
+     * the O(log n) taken by {@link #get(int)}.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            // The nodes whose elements and right subtrees are still to be visited, with the next node on top
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmostPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftmostPath(node.right);
+                return node.element;
+            }
+
+            private void pushLeftmostPath(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private static <E> Node<E> build(E[] elements, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+        int middle = (start + end) >>> 1;
+        return new Node<>(elements[middle], build(elements, start, middle), build(elements, middle + 1, end));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.element, insert(node.left, index, element), node.right);
+        }
+        return balance(node.element, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.element, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.element, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.element, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.element, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // The first element of the right subtree takes the place of the element removed
+        Node<E> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.element, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node with {@code element} between the subtrees {@code left} and {@code right}, whose heights differ
+     * by at most two, rotated so that their heights differ by at most one.
+     */
+    private static <E> Node<E> balance(E element, Node<E> left, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+            }
+            return new Node<>(left.right.element,
+                    new Node<>(left.element, left.left, left.right.left),
+                    new Node<>(element, left.right.right, right));
+        } else if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+            }
+            return new Node<>(right.left.element,
+                    new Node<>(element, left, right.left.left),
+                    new Node<>(right.element, right.left.right, right.right));
+        }
+        return new Node<>(element, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which is never changed once made, so that it can be shared by several lists.
+     */
+    private static final class Node<E> {
+        private final E element;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
@@ -5,7 +5,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +28,107 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        // The word and the words of the sentence are compared in place, as this is the inner loop of every search
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        checkArgument(wordStart < wordEnd, "Word parameter cannot be empty");
+        checkArgument(indexOfWhitespace(word, wordStart, wordEnd) == wordEnd, "Word parameter should be a single word");
+
+        int wordLength = wordEnd - wordStart;
+        int start = 0;
+        while (start < sentence.length()) {
+            int end = indexOfWhitespace(sentence, start, sentence.length());
+            if (end - start == wordLength && sentence.regionMatches(true, start, word, wordStart, wordLength)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words of {@code sentence}, which are the non-empty runs of characters between whitespace.
+     *   <br>examples:<pre>
+     *       splitWords("  ABc   def ") == ["ABc", "def"]
+     *       splitWords("   ") == []
+     *       </pre>
+     */
+    public static List<String> splitWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        int start = 0;
+        while (start < sentence.length()) {
+            int end = indexOfWhitespace(sentence, start, sentence.length());
+            if (end > start) {
+                words.add(sentence.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return List.copyOf(words);
+    }
+
+    /**
+     * Returns the index of the first whitespace character in {@code s} from {@code start} up to {@code end}, or
+     * {@code end} if there is none. Whitespace is what {@code \s} matches in a regular expression.
+     */
+    private static int indexOfWhitespace(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                return i;
+            }
+        }
+        return end;
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns {@code word} with each character folded the same way as {@link String#equalsIgnoreCase(String)} does,
+     * so that two words are equal ignoring case exactly when their folded forms are equal.
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, which is the smallest number of characters
+     * that must be inserted, deleted or replaced to turn one into the other.
+     *   <br>examples:<pre>
+     *       getEditDistance("Muhammad", "Mohammed") == 2
+     *       getEditDistance("Tan", "Tang") == 1
+     *       </pre>
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // Distances from each prefix of first to the prefix of second of the previous and current lengths
+        int[] previous = new int[first.length() + 1];
+        int[] current = new int[first.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            previous[i] = i;
+        }
+        for (int j = 1; j <= second.length(); j++) {
+            current[0] = j;
+            for (int i = 1; i <= first.length(); i++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[i] = Math.min(previous[i - 1] + replaceCost, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[first.length()];
     }
 
     /**
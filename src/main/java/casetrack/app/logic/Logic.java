@@ -1,6 +1,7 @@
 package casetrack.app.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import casetrack.app.commons.core.GuiSettings;
 import casetrack.app.logic.commands.CommandResult;
@@ -23,6 +24,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be notified with an error message when saving changes in the background fails.
+     * The handler may be called from a thread other than the one that executed the command.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Blocks until all changes made by executed commands have been saved.
+     */
+    void flushPendingSaves();
+
     /**
      * Returns the AddressBook.
      *
@@ -1,8 +1,12 @@
 package casetrack.app.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.GuiSettings;
@@ -12,9 +16,11 @@ import casetrack.app.logic.commands.CommandResult;
 import casetrack.app.logic.commands.exceptions.CommandException;
 import casetrack.app.logic.parser.AddressBookParser;
 import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.AddressBookChange;
 import casetrack.app.model.Model;
 import casetrack.app.model.ReadOnlyAddressBook;
 import casetrack.app.model.person.Person;
+import casetrack.app.storage.BackgroundAddressBookSaver;
 import casetrack.app.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -32,13 +38,24 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundAddressBookSaver backgroundSaver;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are saved to {@code storage} before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are saved to {@code storage} through {@code backgroundSaver} if it is not null.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver backgroundSaver) {
         this.model = model;
         this.storage = storage;
+        this.backgroundSaver = backgroundSaver;
         addressBookParser = new AddressBookParser();
     }
 
@@ -50,17 +67,51 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // Commands that only read the address book, such as search and list, have nothing to save
+        List<AddressBookChange> changes = model.takeUnsavedChanges();
+        if (changes.isEmpty()) {
+            return commandResult;
+        }
+
+        if (backgroundSaver != null) {
+            backgroundSaver.submit(model.getAddressBook(), changes);
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBookChanges(model.getAddressBook(), changes);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        if (backgroundSaver != null) {
+            backgroundSaver.setFailureHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+        }
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        if (backgroundSaver != null) {
+            backgroundSaver.flush();
+        }
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book fails with {@code ioe}.
+     */
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
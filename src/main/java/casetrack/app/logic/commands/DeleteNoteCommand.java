@@ -61,8 +61,7 @@ public class DeleteNoteCommand extends DeleteCommand {
 
         Note noteToDelete = notes.get(noteIndex.getZeroBased());
         assert noteToDelete != null : "Note to delete should not be null";
-        Person updatedPerson = personToUpdate.removeNote(noteIndex.getZeroBased());
-        model.setPerson(personToUpdate, updatedPerson);
+        Person updatedPerson = model.deleteNote(personToUpdate.getId(), noteIndex.getZeroBased());
 
         DetailPanelInstruction updateInstruction = new DetailPanelInstruction(updatedPerson);
         return new CommandResult(String.format(MESSAGE_DELETE_NOTE_SUCCESS,
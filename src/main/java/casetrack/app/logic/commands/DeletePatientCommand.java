@@ -34,7 +34,7 @@ public class DeletePatientCommand extends DeleteCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Person personToDelete = getPersonByIndex(model, targetIndex);
-        model.deletePerson(personToDelete);
+        model.deletePerson(personToDelete.getId());
 
         DetailPanelInstruction clearInstruction = new DetailPanelInstruction(null);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
@@ -63,8 +63,7 @@ public class EditNoteCommand extends EditCommand {
             throw new CommandException(MESSAGE_INVALID_NOTE_INDEX);
         }
 
-        Person updatedPerson = personToUpdate.editNote(noteIndex.getZeroBased(), newNote);
-        model.setPerson(personToUpdate, updatedPerson);
+        Person updatedPerson = model.editNote(personToUpdate.getId(), noteIndex.getZeroBased(), newNote);
         return new CommandResult(String.format(MESSAGE_EDIT_NOTE_SUCCESS,
                 personToUpdate.getName().fullName, newNote.value), updatedPerson, false, false);
     }
@@ -23,11 +23,22 @@ public class FindCommand extends Command {
             + ": Finds all persons whose specified field contains any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: FIELD KEYWORD [MORE_KEYWORDS]...\n"
-            + "Supported fields: name, number, email, tag\n"
+            + "Supported fields: name, name-prefix, name-fuzzy, number, email, tag, note, "
+            + "income (as a range MIN..MAX, where either end may be left out)\n"
+            + "name-fuzzy also finds names spelt slightly differently, with the closest spellings first. "
+            + "Persons found by note are ranked with the most relevant first. "
+            + "Words in double quotes are searched for as a phrase.\n"
+            + "Fields can also be combined in a query of FIELD:KEYWORD and income comparisons (<, <=, >, >=, =) "
+            + "joined by AND, OR and NOT, with parentheses for grouping.\n"
             + "Examples: " + COMMAND_WORD + " name alice charlie\n"
+            + "          " + COMMAND_WORD + " name-prefix al ch\n"
+            + "          " + COMMAND_WORD + " name-fuzzy mohamed\n"
             + "          " + COMMAND_WORD + " number 91234567\n"
             + "          " + COMMAND_WORD + " email alice@example.com\n"
-            + "          " + COMMAND_WORD + " tag friend colleague";
+            + "          " + COMMAND_WORD + " tag friend colleague\n"
+            + "          " + COMMAND_WORD + " note \"home visit\" dialysis\n"
+            + "          " + COMMAND_WORD + " income ..1200\n"
+            + "          " + COMMAND_WORD + " tag:elderly AND income<1500 OR note:\"housing\"";
 
     private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
     private final Predicate<Person> predicate;
@@ -75,9 +75,7 @@ public class NoteCommand extends Command {
         requireNonNull(model);
 
         Person personToUpdate = findPerson(model);
-        Person updatedPerson = personToUpdate.addNote(note);
-
-        model.setPerson(personToUpdate, updatedPerson);
+        Person updatedPerson = model.addNote(personToUpdate.getId(), note);
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 updatedPerson.getName().fullName,
                 updatedPerson.getPhone().value,
@@ -0,0 +1,45 @@
+package casetrack.app.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import casetrack.app.model.Model;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Lists every tag in the address book with the number of patients that have it.
+ */
+public class TagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "tags";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists every tag with the number of patients that have it.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Tags:\n%1$s";
+
+    public static final String MESSAGE_NO_TAGS = "No patient has any tags.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Tag, Integer> tagCounts = model.getTagCounts();
+        if (tagCounts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TAGS);
+        }
+
+        String summary = tagCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(tag -> tag.tagName)))
+                .map(entry -> formatCount(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, summary));
+    }
+
+    private static String formatCount(Tag tag, int count) {
+        return tag.tagName + ": " + count + (count == 1 ? " patient" : " patients");
+    }
+}
@@ -18,6 +18,7 @@ import casetrack.app.logic.commands.FindCommand;
 import casetrack.app.logic.commands.HelpCommand;
 import casetrack.app.logic.commands.ListCommand;
 import casetrack.app.logic.commands.NoteCommand;
+import casetrack.app.logic.commands.TagsCommand;
 import casetrack.app.logic.commands.ViewDetailsCommand;
 import casetrack.app.logic.parser.exceptions.ParseException;
 
@@ -79,6 +80,9 @@ public class AddressBookParser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case TagsCommand.COMMAND_WORD:
+            return new TagsCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
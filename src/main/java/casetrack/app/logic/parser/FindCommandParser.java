@@ -2,14 +2,21 @@ package casetrack.app.logic.parser;
 
 import static casetrack.app.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import casetrack.app.logic.commands.FindCommand;
 import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.EmailContainsKeywordsPredicate;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NameSimilarToKeywordsPredicate;
+import casetrack.app.model.person.NameStartsWithKeywordsPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
 import casetrack.app.model.person.Person;
 import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
 import casetrack.app.model.person.TagContainsKeywordsPredicate;
@@ -19,6 +26,13 @@ import casetrack.app.model.person.TagContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    static final String NOTE_FIELD = "note";
+    static final String INCOME_FIELD = "income";
+
+    private static final Set<String> FIELDS = Set.of("name", "name-prefix", "name-fuzzy", "number", "email", "tag",
+            NOTE_FIELD, INCOME_FIELD);
+    private static final Pattern NOTE_KEYWORD_FORMAT = Pattern.compile("\"(?<phrase>[^\"]*)\"?|(?<word>[^\\s\"]+)");
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -32,19 +46,49 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] argParts = trimmedArgs.split("\\s+");
+        String searchType = argParts[0].toLowerCase();
+        if (!FIELDS.contains(searchType)) {
+            return new FindCommand(SearchQueryParser.parse(trimmedArgs));
+        }
 
         if (argParts.length < 2) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String searchType = argParts[0].toLowerCase();
+        String keywordArgs = trimmedArgs.substring(argParts[0].length()).trim();
+        if (searchType.equals(NOTE_FIELD)) {
+            return new FindCommand(new NoteContainsKeywordsPredicate(parseNoteKeywords(keywordArgs)));
+        } else if (searchType.equals(INCOME_FIELD)) {
+            return new FindCommand(ParserUtil.parseIncomeRange(keywordArgs));
+        }
         List<String> keywords = Arrays.asList(Arrays.copyOfRange(argParts, 1, argParts.length));
 
         Predicate<Person> predicate = subcommand(searchType, keywords);
         return new FindCommand(predicate);
     }
 
+    /**
+     * Parses the keywords of a search of notes, in which words in double quotes are kept together as one keyword.
+     * @throws ParseException if there are no keywords
+     */
+    private static List<String> parseNoteKeywords(String keywordArgs) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        Matcher matcher = NOTE_KEYWORD_FORMAT.matcher(keywordArgs);
+        while (matcher.find()) {
+            String keyword = matcher.group("phrase") != null ? matcher.group("phrase").trim() : matcher.group("word");
+            if (!keyword.isEmpty()) {
+                keywords.add(keyword);
+            }
+        }
+
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return keywords;
+    }
+
     /**
      * Creates the appropriate predicate based on the search subcommand type.
      * @param searchType the type of search (name, email, phone, etc.)
@@ -52,16 +96,22 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @return the appropriate predicate for the search type
      * @throws ParseException if the search type is invalid
      */
-    private Predicate<Person> subcommand(String searchType, List<String> keywords) throws ParseException {
+    static Predicate<Person> subcommand(String searchType, List<String> keywords) throws ParseException {
         switch (searchType) {
         case "name":
             return new NameContainsKeywordsPredicate(keywords);
+        case "name-prefix":
+            return new NameStartsWithKeywordsPredicate(keywords);
+        case "name-fuzzy":
+            return new NameSimilarToKeywordsPredicate(keywords);
         case "number":
             return new PhoneContainsKeywordsPredicate(keywords);
         case "email":
             return new EmailContainsKeywordsPredicate(keywords);
         case "tag":
             return new TagContainsKeywordsPredicate(keywords);
+        case NOTE_FIELD:
+            return new NoteContainsKeywordsPredicate(keywords);
         default:
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
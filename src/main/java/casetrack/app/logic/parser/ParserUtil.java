@@ -2,6 +2,7 @@ package casetrack.app.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -12,11 +13,13 @@ import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.Address;
 import casetrack.app.model.person.Email;
 import casetrack.app.model.person.Income;
+import casetrack.app.model.person.IncomeInRangePredicate;
 import casetrack.app.model.person.MedicalInfo;
 import casetrack.app.model.person.Name;
 import casetrack.app.model.person.Note;
 import casetrack.app.model.person.Phone;
 import casetrack.app.model.tag.Tag;
+import casetrack.app.model.tag.TagRegistry;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -24,6 +27,9 @@ import casetrack.app.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INCOME_RANGE = "Income range must be MIN..MAX, where MIN and MAX "
+            + "are incomes and MIN is not more than MAX. Either MIN or MAX may be left out, but not both.";
+    public static final String INCOME_RANGE_SEPARATOR = "..";
     public static final String PATIENT_STRING = "patient";
     public static final String NOTE_STRING = "note";
 
@@ -115,6 +121,36 @@ public class ParserUtil {
         return new Income(trimmedIncome);
     }
 
+    /**
+     * Parses a {@code String range} of the form {@code MIN..MAX} into an {@code IncomeInRangePredicate}.
+     * Either {@code MIN} or {@code MAX} may be left out, for a range with no lower or upper end.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static IncomeInRangePredicate parseIncomeRange(String range) throws ParseException {
+        requireNonNull(range);
+        String trimmedRange = range.trim();
+        int separatorIndex = trimmedRange.indexOf(INCOME_RANGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new ParseException(MESSAGE_INVALID_INCOME_RANGE);
+        }
+
+        String min = trimmedRange.substring(0, separatorIndex).trim();
+        String max = trimmedRange.substring(separatorIndex + INCOME_RANGE_SEPARATOR.length()).trim();
+        if ((min.isEmpty() && max.isEmpty())
+                || (!min.isEmpty() && !Income.isValidIncome(min))
+                || (!max.isEmpty() && !Income.isValidIncome(max))) {
+            throw new ParseException(MESSAGE_INVALID_INCOME_RANGE);
+        }
+        BigDecimal minAmount = min.isEmpty() ? null : new BigDecimal(min);
+        BigDecimal maxAmount = max.isEmpty() ? null : new BigDecimal(max);
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new ParseException(MESSAGE_INVALID_INCOME_RANGE);
+        }
+        return new IncomeInRangePredicate(minAmount, maxAmount);
+    }
+
     /**
      * Parses a {@code String medicalInfo} into a {@code MedicalInfo}.
      * Leading and trailing whitespaces will be trimmed.
@@ -142,7 +178,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return TagRegistry.intern(trimmedTag);
     }
 
     /**
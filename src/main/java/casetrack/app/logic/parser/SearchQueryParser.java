@@ -0,0 +1,185 @@
+package casetrack.app.logic.parser;
+
+import static casetrack.app.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import casetrack.app.logic.commands.FindCommand;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.Income;
+import casetrack.app.model.person.IncomeComparisonPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate.Operator;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.Person;
+
+/**
+ * Parses a search query made of clauses such as {@code tag:elderly}, {@code income<1500} and
+ * {@code income:500..1500}, combined with {@code AND}, {@code OR} and {@code NOT} and grouped with parentheses,
+ * into a predicate.
+ * {@code NOT} binds more tightly than {@code AND}, which binds more tightly than {@code OR}.
+ */
+public class SearchQueryParser {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("\\s*(?:(?<parenthesis>[()])"
+            + "|(?<field>[\\p{Alpha}-]+)(?<operator><=|>=|[:<>=])(?:\"(?<phrase>[^\"]*)\"|(?<value>[^\\s()\"]+))"
+            + "|(?<word>[^\\s()\"]+))");
+
+    private final List<Token> tokens;
+    private int position = 0;
+
+    private SearchQueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into a predicate.
+     * @throws ParseException if {@code query} is not a valid search query
+     */
+    public static Predicate<Person> parse(String query) throws ParseException {
+        requireNonNull(query);
+        SearchQueryParser parser = new SearchQueryParser(tokenize(query.trim()));
+        Predicate<Person> predicate = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw invalidQuery();
+        }
+        return predicate;
+    }
+
+    private static List<Token> tokenize(String query) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(query);
+        int end = 0;
+        while (end < query.length()) {
+            if (!matcher.find(end) || matcher.start() != end) {
+                // Only a double quote without a matching one can be left unmatched
+                throw invalidQuery();
+            }
+            end = matcher.end();
+            if (matcher.group("field") != null) {
+                tokens.add(new Token(matcher.group().trim(), parseClause(matcher)));
+            } else if (matcher.group("parenthesis") != null) {
+                tokens.add(new Token(matcher.group("parenthesis"), null));
+            } else if (matcher.group("word") != null) {
+                tokens.add(new Token(matcher.group("word"), null));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the predicate for the clause matched by {@code matcher}.
+     */
+    private static Predicate<Person> parseClause(Matcher matcher) throws ParseException {
+        String field = matcher.group("field").toLowerCase();
+        String operatorSymbol = matcher.group("operator");
+        String value = matcher.group("phrase") != null ? matcher.group("phrase").trim() : matcher.group("value");
+        if (value.isEmpty()) {
+            throw invalidQuery();
+        }
+
+        if (field.equals(FindCommandParser.INCOME_FIELD)) {
+            if (operatorSymbol.equals(":") && value.contains(ParserUtil.INCOME_RANGE_SEPARATOR)) {
+                return ParserUtil.parseIncomeRange(value);
+            }
+            if (!Income.isValidIncome(value)) {
+                throw new ParseException(Income.MESSAGE_CONSTRAINTS);
+            }
+            Operator operator = operatorSymbol.equals(":")
+                    ? Operator.EQUAL_TO
+                    : Operator.fromSymbol(operatorSymbol).get();
+            return new IncomeComparisonPredicate(operator, new BigDecimal(value));
+        }
+
+        if (!operatorSymbol.equals(":")) {
+            // Only income can be compared with < and >
+            throw invalidQuery();
+        }
+        // A phrase is one keyword for notes, where words are matched next to each other, but not for other fields
+        List<String> keywords = field.equals(FindCommandParser.NOTE_FIELD)
+                ? List.of(value)
+                : List.of(value.split("\\s+"));
+        return FindCommandParser.subcommand(field, keywords);
+    }
+
+    private Predicate<Person> parseOr() throws ParseException {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (isNext(OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrPredicate(operands);
+    }
+
+    private Predicate<Person> parseAnd() throws ParseException {
+        List<Predicate<Person>> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (isNext(AND)) {
+            position++;
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndPredicate(operands);
+    }
+
+    private Predicate<Person> parseNot() throws ParseException {
+        if (isNext(NOT)) {
+            position++;
+            return new NotPredicate(parseNot());
+        }
+        return parseOperand();
+    }
+
+    private Predicate<Person> parseOperand() throws ParseException {
+        if (position == tokens.size()) {
+            throw invalidQuery();
+        }
+
+        Token token = tokens.get(position++);
+        if (token.clause != null) {
+            return token.clause;
+        } else if (token.text.equals("(")) {
+            Predicate<Person> predicate = parseOr();
+            if (!isNext(")")) {
+                throw invalidQuery();
+            }
+            position++;
+            return predicate;
+        }
+        throw invalidQuery();
+    }
+
+    private boolean isNext(String text) {
+        return position < tokens.size()
+                && tokens.get(position).clause == null
+                && tokens.get(position).text.equalsIgnoreCase(text);
+    }
+
+    private static ParseException invalidQuery() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * A parenthesis, an operator, or a clause of the query, together with its predicate.
+     */
+    private static class Token {
+        private final String text;
+        private final Predicate<Person> clause;
+
+        Token(String text, Predicate<Person> clause) {
+            this.text = text;
+            this.clause = clause;
+        }
+    }
+}
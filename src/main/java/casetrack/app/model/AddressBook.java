@@ -1,21 +1,40 @@
 package casetrack.app.model;
 
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.person.Name;
 import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
 import casetrack.app.model.person.UniquePersonList;
+import casetrack.app.model.person.exceptions.PersonNotFoundException;
+import casetrack.app.model.tag.Tag;
 import javafx.collections.ObservableList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Every person in the address book has an ID that no other person in it has, which stays the same when the person is
+ * edited. A person added with an ID keeps it if no other person has it, so that IDs read from storage are kept, and is
+ * otherwise given the next unused ID.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    /** Larger than the ID of every person in the address book. */
+    private long nextId = Person.NO_ID + 1;
+    // Must be updated together with persons, with the instances stored in persons
+    private final TagIndex tagIndex = new TagIndex();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,7 +64,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        requireNonNull(persons);
+        nextId = Person.NO_ID + 1;
+        for (Person person : persons) {
+            nextId = Math.max(nextId, person.getId() + 1);
+        }
+
+        Set<Long> ids = new HashSet<>();
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            personsWithIds.add(person.getId() != Person.NO_ID && ids.add(person.getId())
+                    ? person
+                    : person.withId(nextId++));
+        }
+        this.persons.setPersons(personsWithIds);
+        tagIndex.setPersons(personsWithIds);
     }
 
     /**
@@ -68,11 +101,31 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a person to the address book.
+     * Returns the person in the address book with the given {@code name} and {@code phone}, if any.
+     */
+    public Optional<Person> getPerson(Name name, Phone phone) {
+        return persons.get(name, phone);
+    }
+
+    /**
+     * Returns the person in the address book with the given {@code id}, if any.
+     */
+    public Optional<Person> getPerson(long id) {
+        return persons.get(id);
+    }
+
+    /**
+     * Adds a person to the address book, giving the person an ID if the person has none or its ID is taken.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        requireNonNull(p);
+        Person personWithId = p.getId() == Person.NO_ID || persons.get(p.getId()).isPresent()
+                ? p.withId(nextId)
+                : p;
+        persons.add(personWithId);
+        tagIndex.add(personWithId);
+        nextId = Math.max(nextId, personWithId.getId() + 1);
     }
 
     /**
@@ -81,9 +134,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
     public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
+        requireAllNonNull(target, editedPerson);
+        Person storedTarget = getStoredPerson(target);
+        replacePerson(storedTarget, editedPerson.withId(storedTarget.getId()));
+    }
 
-        persons.setPerson(target, editedPerson);
+    /**
+     * Replaces the person with the given {@code id} with {@code editedPerson}, which is given the same ID.
+     * A person with the given {@code id} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    public void setPerson(long id, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person target = getPerson(id).orElseThrow(PersonNotFoundException::new);
+        replacePerson(target, editedPerson.withId(id));
     }
 
     /**
@@ -91,7 +155,62 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        requireNonNull(key);
+        Person storedKey = getStoredPerson(key);
+        persons.remove(storedKey);
+        tagIndex.remove(storedKey);
+    }
+
+    /**
+     * Removes the person with the given {@code id} from this {@code AddressBook}.
+     * A person with the given {@code id} must exist in the address book.
+     */
+    public void removePerson(long id) {
+        Person storedPerson = getPerson(id).orElseThrow(PersonNotFoundException::new);
+        persons.remove(storedPerson);
+        tagIndex.remove(storedPerson);
+    }
+
+    /**
+     * Returns the number of persons in the address book with {@code tag}, which takes constant time however many
+     * persons there are.
+     */
+    public int getTagCount(Tag tag) {
+        return tagIndex.getCount(tag);
+    }
+
+    /**
+     * Returns the number of persons in the address book with each tag that any person in it has, which takes time
+     * proportional to the number of distinct tags rather than to the number of persons.
+     */
+    public Map<Tag, Integer> getTagCounts() {
+        return tagIndex.getCounts();
+    }
+
+    /**
+     * Returns the persons in the address book that match {@code predicate}, as a set compared by reference, if
+     * {@code predicate} is made only of tag searches combined with AND, OR and NOT, or an empty {@code Optional}
+     * otherwise.
+     */
+    Optional<Set<Person>> findByTags(Predicate<Person> predicate) {
+        return tagIndex.find(predicate);
+    }
+
+    /**
+     * Returns the person stored in the address book that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private Person getStoredPerson(Person person) {
+        return persons.get(person.getName(), person.getPhone())
+                .filter(person::equals)
+                .orElseThrow(PersonNotFoundException::new);
+    }
+
+    private void replacePerson(Person storedTarget, Person storedEditedPerson) {
+        persons.setPerson(storedTarget, storedEditedPerson);
+        tagIndex.remove(storedTarget);
+        tagIndex.add(storedEditedPerson);
     }
 
     //// util methods
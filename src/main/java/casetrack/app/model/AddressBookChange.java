@@ -0,0 +1,170 @@
+package casetrack.app.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.person.Person;
+
+/**
+ * Represents a single change made to the persons of an address book.
+ * A change made by adding, editing or deleting a single note of a person is a {@code SET} change that also records
+ * the note operation and the index of the note, so that the change can be saved or indexed without comparing the
+ * notes of the person before and after it.
+ * Guarantees: immutable.
+ */
+public class AddressBookChange {
+
+    /**
+     * Types of changes that can be made to an address book.
+     */
+    public enum Type {
+        ADD, SET, DELETE, RESET
+    }
+
+    /**
+     * Operations on a single note of a person that a {@code SET} change can be made by.
+     */
+    public enum NoteOperation {
+        ADD, EDIT, DELETE
+    }
+
+    private final Type type;
+
+    /** The person before the change. Present for {@code SET} and {@code DELETE}. */
+    private final Person target;
+
+    /** The person after the change. Present for {@code ADD} and {@code SET}. */
+    private final Person editedPerson;
+
+    /** The operation on a single note that made the change, or null if the change was not made by one. */
+    private final NoteOperation noteOperation;
+    /** Index of the note added, edited or deleted, in the notes of the person it was in. */
+    private final int noteIndex;
+
+    private AddressBookChange(Type type, Person target, Person editedPerson) {
+        this(type, target, editedPerson, null, -1);
+    }
+
+    private AddressBookChange(Type type, Person target, Person editedPerson, NoteOperation noteOperation,
+            int noteIndex) {
+        this.type = type;
+        this.target = target;
+        this.editedPerson = editedPerson;
+        this.noteOperation = noteOperation;
+        this.noteIndex = noteIndex;
+    }
+
+    /**
+     * Returns a change that adds {@code person} to the address book.
+     */
+    public static AddressBookChange added(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD, null, person);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static AddressBookChange edited(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        return new AddressBookChange(Type.SET, target, editedPerson);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}, which differs from {@code target} only
+     * by the note at {@code noteIndex} having been added, edited or deleted, as given by {@code noteOperation}.
+     * For {@code ADD}, {@code noteIndex} is the index of the note in the notes of {@code editedPerson}, and otherwise
+     * in the notes of {@code target}.
+     */
+    public static AddressBookChange noteChanged(Person target, Person editedPerson, NoteOperation noteOperation,
+            int noteIndex) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        requireNonNull(noteOperation);
+        if (noteIndex < 0) {
+            throw new IllegalArgumentException("Note index must not be negative: " + noteIndex);
+        }
+        return new AddressBookChange(Type.SET, target, editedPerson, noteOperation, noteIndex);
+    }
+
+    /**
+     * Returns a change that removes {@code target} from the address book.
+     */
+    public static AddressBookChange deleted(Person target) {
+        requireNonNull(target);
+        return new AddressBookChange(Type.DELETE, target, null);
+    }
+
+    /**
+     * Returns a change that replaces all data in the address book.
+     */
+    public static AddressBookChange reset() {
+        return new AddressBookChange(Type.RESET, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Person getTarget() {
+        return target;
+    }
+
+    public Person getEditedPerson() {
+        return editedPerson;
+    }
+
+    /**
+     * Returns the operation on a single note that made this change, if it was made by one.
+     */
+    public Optional<NoteOperation> getNoteOperation() {
+        return Optional.ofNullable(noteOperation);
+    }
+
+    /**
+     * Returns the index of the note added, edited or deleted by this change.
+     * Only meaningful if {@link #getNoteOperation()} is present.
+     */
+    public int getNoteIndex() {
+        return noteIndex;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && Objects.equals(editedPerson, otherChange.editedPerson)
+                && noteOperation == otherChange.noteOperation
+                && noteIndex == otherChange.noteIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, editedPerson, noteOperation, noteIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("target", target)
+                .add("editedPerson", editedPerson)
+                .add("noteOperation", noteOperation)
+                .add("noteIndex", noteIndex)
+                .toString();
+    }
+}
@@ -0,0 +1,108 @@
+package casetrack.app.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.ObjIntConsumer;
+
+import casetrack.app.commons.util.StringUtil;
+
+/**
+ * A BK-tree of words, which finds the words within an edit distance of a word without comparing it to every word.
+ *
+ * Each child of a word is stored under its edit distance from the word. As edit distances obey the triangle
+ * inequality, the words within {@code maxDistance} of a query that is {@code d} away from a word can only be under
+ * the children of that word at distances from {@code d - maxDistance} to {@code d + maxDistance}.
+ *
+ * Words cannot be removed, as the words under a removed word would have to be added again.
+ */
+class BkTree {
+
+    private Node root;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in the tree.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes all words from the tree.
+     */
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Passes each word in the tree within {@code maxDistance} of {@code word}, and its distance from {@code word},
+     * to {@code action}.
+     */
+    void forEachWithin(String word, int maxDistance, ObjIntConsumer<String> action) {
+        requireNonNull(word);
+        requireNonNull(action);
+        Deque<Node> nodes = new ArrayDeque<>();
+        if (root != null) {
+            nodes.push(root);
+        }
+
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance <= maxDistance) {
+                action.accept(node.word, distance);
+            }
+            int maxChildDistance = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int i = Math.max(distance - maxDistance, 1); i <= maxChildDistance; i++) {
+                if (node.children[i] != null) {
+                    nodes.push(node.children[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * A word in the tree, with its children indexed by their edit distance from the word.
+     */
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String word;
+        private Node[] children = NO_CHILDREN;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
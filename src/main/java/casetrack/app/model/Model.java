@@ -1,10 +1,14 @@
 package casetrack.app.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import casetrack.app.commons.core.GuiSettings;
+import casetrack.app.model.person.Note;
 import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
 import javafx.collections.ObservableList;
 
 /**
@@ -63,6 +67,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the person with the given {@code id}.
+     * A person with the given {@code id} must exist in the address book.
+     */
+    void deletePerson(long id);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -76,6 +86,44 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces the person with the given {@code id} with {@code editedPerson}, which keeps the same ID.
+     * A person with the given {@code id} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPerson(long id, Person editedPerson);
+
+    /**
+     * Adds {@code note} to the end of the notes of the person with the given {@code id}, and returns the person with
+     * the note added.
+     * A person with the given {@code id} must exist in the address book.
+     */
+    Person addNote(long id, Note note);
+
+    /**
+     * Replaces the note at {@code noteIndex} of the person with the given {@code id} with {@code note}, and returns
+     * the person with the note replaced.
+     * A person with the given {@code id} must exist in the address book, and must have a note at {@code noteIndex}.
+     */
+    Person editNote(long id, int noteIndex, Note note);
+
+    /**
+     * Deletes the note at {@code noteIndex} of the person with the given {@code id}, and returns the person with the
+     * note deleted.
+     * A person with the given {@code id} must exist in the address book, and must have a note at {@code noteIndex}.
+     */
+    Person deleteNote(long id, int noteIndex);
+
+    /**
+     * Returns the number of persons in the address book with each tag that any person in it has.
+     */
+    Map<Tag, Integer> getTagCounts();
+
+    /**
+     * Returns the changes made to the address book since the last call to this method, in the order they were made.
+     */
+    List<AddressBookChange> takeUnsavedChanges();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
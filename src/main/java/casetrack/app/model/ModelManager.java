@@ -4,14 +4,27 @@ import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.GuiSettings;
 import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.model.person.NameSimilarToKeywordsPredicate;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
 import casetrack.app.model.person.Person;
+import casetrack.app.model.person.exceptions.PersonNotFoundException;
+import casetrack.app.model.tag.Tag;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -19,9 +32,27 @@ import javafx.collections.transformation.FilteredList;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** Largest number of search results kept to be shown again when the same search is repeated. */
+    private static final int SEARCH_CACHE_SIZE = 16;
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final List<AddressBookChange> unsavedChanges = new ArrayList<>();
+    private final SortedList<Person> sortedPersons;
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    // Built when notes are first searched, so that notes that are loaded lazily are not all loaded at startup
+    private NoteSearchIndex noteSearchIndex;
+    /** Number of changes made to the address book, which tells whether cached search results are still current. */
+    private long version = 0;
+    private long searchCacheVersion = 0;
+    // Ordered from least to most recently used, so that the least recently used search result is removed first
+    private final Map<Predicate<Person>, SearchResult> searchCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, SearchResult> eldest) {
+            return size() > SEARCH_CACHE_SIZE;
+        }
+    };
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,6 +65,8 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        searchIndex.setPersons(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -80,6 +113,9 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        searchIndex.setPersons(this.addressBook.getPersonList());
+        noteSearchIndex = null;
+        recordChange(AddressBookChange.reset());
     }
 
     @Override
@@ -87,6 +123,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public Map<Tag, Integer> getTagCounts() {
+        return addressBook.getTagCounts();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -95,37 +136,231 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        deletePerson(getStoredPerson(target).getId());
+    }
+
+    @Override
+    public void deletePerson(long id) {
+        Person storedTarget = addressBook.getPerson(id).orElseThrow(PersonNotFoundException::new);
+        addressBook.removePerson(id);
+        searchIndex.remove(storedTarget);
+        if (noteSearchIndex != null) {
+            noteSearchIndex.remove(storedTarget);
+        }
+        recordChange(AddressBookChange.deleted(storedTarget));
     }
 
     @Override
     public void addPerson(Person person) {
+        requireNonNull(person);
         addressBook.addPerson(person);
+        // The address book stores a copy of person with an ID
+        Person storedPerson = addressBook.getPerson(person.getName(), person.getPhone()).orElseThrow();
+        searchIndex.add(storedPerson);
+        if (noteSearchIndex != null) {
+            noteSearchIndex.add(storedPerson);
+        }
+        recordChange(AddressBookChange.added(storedPerson));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        setPerson(getStoredPerson(target).getId(), editedPerson);
+    }
+
+    @Override
+    public void setPerson(long id, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        Person target = addressBook.getPerson(id).orElseThrow(PersonNotFoundException::new);
+        // The address book stores the edited person with the ID of target, and the same instance is indexed
+        Person storedEditedPerson = editedPerson.withId(id);
+        replacePerson(target, storedEditedPerson, AddressBookChange.edited(target, storedEditedPerson));
+    }
+
+    @Override
+    public Person addNote(long id, Note note) {
+        requireNonNull(note);
+        Person target = addressBook.getPerson(id).orElseThrow(PersonNotFoundException::new);
+        Person editedPerson = target.addNote(note);
+        replacePerson(target, editedPerson, AddressBookChange.noteChanged(target, editedPerson,
+                AddressBookChange.NoteOperation.ADD, editedPerson.getNotes().size() - 1));
+        return editedPerson;
+    }
+
+    @Override
+    public Person editNote(long id, int noteIndex, Note note) {
+        requireNonNull(note);
+        Person target = addressBook.getPerson(id).orElseThrow(PersonNotFoundException::new);
+        Person editedPerson = target.editNote(noteIndex, note);
+        replacePerson(target, editedPerson, AddressBookChange.noteChanged(target, editedPerson,
+                AddressBookChange.NoteOperation.EDIT, noteIndex));
+        return editedPerson;
+    }
+
+    @Override
+    public Person deleteNote(long id, int noteIndex) {
+        Person target = addressBook.getPerson(id).orElseThrow(PersonNotFoundException::new);
+        Person editedPerson = target.removeNote(noteIndex);
+        replacePerson(target, editedPerson, AddressBookChange.noteChanged(target, editedPerson,
+                AddressBookChange.NoteOperation.DELETE, noteIndex));
+        return editedPerson;
+    }
+
+    /**
+     * Replaces {@code target} in the address book and the search indexes with {@code storedEditedPerson}, which has
+     * the ID of {@code target}, and records {@code change} to be saved.
+     */
+    private void replacePerson(Person target, Person storedEditedPerson, AddressBookChange change) {
+        long id = target.getId();
+        SearchResult searchResult = filteredPersons.getPredicate() instanceof SearchResult
+                ? (SearchResult) filteredPersons.getPredicate()
+                : null;
+        if (searchResult != null && !searchResult.isRanked()) {
+            // The filtered list tests the edited person as soon as it replaces target
+            searchResult.update(target, storedEditedPerson);
+        }
+        addressBook.setPerson(id, storedEditedPerson);
+        searchIndex.remove(target);
+        searchIndex.add(storedEditedPerson);
+        if (noteSearchIndex != null && change.getNoteOperation().isPresent()) {
+            // Only the changed note is indexed again, so other notes of the person are not read
+            noteSearchIndex.updateNote(target, storedEditedPerson, change.getNoteOperation().get(),
+                    change.getNoteIndex());
+        } else if (noteSearchIndex != null) {
+            noteSearchIndex.remove(target);
+            noteSearchIndex.add(storedEditedPerson);
+        }
+        recordChange(change);
+
+        if (searchResult != null && searchResult.isRanked()) {
+            // The rank of the edited person may differ from that of target, and the scores of notes depend on the
+            // notes of every person, so the search is redone
+            updateFilteredPersonList(searchResult.predicate);
+        }
+    }
+
+    /**
+     * Returns the person in the address book that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private Person getStoredPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getPerson(person.getName(), person.getPhone())
+                .filter(person::equals)
+                .orElseThrow(PersonNotFoundException::new);
+    }
+
+    /**
+     * Records {@code change} to be saved, and makes the search results cached before it out of date.
+     */
+    private void recordChange(AddressBookChange change) {
+        unsavedChanges.add(change);
+        version++;
+    }
 
-        addressBook.setPerson(target, editedPerson);
+    @Override
+    public List<AddressBookChange> takeUnsavedChanges() {
+        List<AddressBookChange> changes = new ArrayList<>(unsavedChanges);
+        unsavedChanges.clear();
+        return changes;
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, ranked by relevance if the list is filtered by a search of notes or a search for
+     * names spelt like the keywords.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        SearchResult cachedSearchResult = getCachedSearchResult(predicate);
+        if (cachedSearchResult != null) {
+            logger.fine("Showing cached search result for " + predicate);
+            showSearchResult(cachedSearchResult);
+            return;
+        }
+
+        if (predicate instanceof NoteContainsKeywordsPredicate) {
+            Map<Person, Double> scores = getNoteSearchIndex().search((NoteContainsKeywordsPredicate) predicate);
+            showSearchResult(cacheSearchResult(new SearchResult(predicate, scores.keySet(),
+                    Comparator.comparingDouble((Person person) -> scores.getOrDefault(person, 0.0)).reversed())));
+            return;
+        } else if (predicate instanceof NameSimilarToKeywordsPredicate) {
+            Map<Person, Integer> distances = searchIndex.findBySimilarName((NameSimilarToKeywordsPredicate) predicate);
+            showSearchResult(cacheSearchResult(new SearchResult(predicate, distances.keySet(),
+                    Comparator.comparingInt((Person person) -> distances.getOrDefault(person, 0)))));
+            return;
+        }
+
+        Optional<Set<Person>> matches = QueryPlanner.find(predicate, this::lookUp);
+        if (matches.isPresent()) {
+            showSearchResult(cacheSearchResult(new SearchResult(predicate, matches.get(), null)));
+        } else if (predicate != PREDICATE_SHOW_ALL_PERSONS
+                && ParallelScan.isWorthwhile(addressBook.getPersonList().size())) {
+            // The filtered list would test every person one after another on the JavaFX application thread
+            Set<Person> scannedMatches = ParallelScan.find(addressBook.getPersonList(), predicate);
+            showSearchResult(cacheSearchResult(new SearchResult(predicate, scannedMatches, null)));
+        } else {
+            sortedPersons.setComparator(null);
+            filteredPersons.setPredicate(predicate);
+        }
+    }
+
+    /**
+     * Returns the result of searching for {@code predicate} if it is cached and the address book has not changed
+     * since, or null otherwise.
+     */
+    private SearchResult getCachedSearchResult(Predicate<Person> predicate) {
+        if (searchCacheVersion != version) {
+            searchCache.clear();
+            searchCacheVersion = version;
+        }
+        return searchCache.get(predicate);
+    }
+
+    private SearchResult cacheSearchResult(SearchResult searchResult) {
+        searchCache.put(searchResult.predicate, searchResult);
+        return searchResult;
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} as looked up in the search indexes, or an empty {@code Optional}
+     * if {@code predicate} cannot be looked up.
+     */
+    private Optional<Set<Person>> lookUp(Predicate<Person> predicate) {
+        if (predicate instanceof NoteContainsKeywordsPredicate) {
+            return Optional.of(getNoteSearchIndex().search((NoteContainsKeywordsPredicate) predicate).keySet());
+        }
+        Optional<Set<Person>> matches = addressBook.findByTags(predicate);
+        return matches.isPresent() ? matches : searchIndex.find(predicate);
+    }
+
+    private void showSearchResult(SearchResult searchResult) {
+        if (!searchResult.isRanked()) {
+            sortedPersons.setComparator(null);
+        }
+        filteredPersons.setPredicate(searchResult);
+        // Sorting is stable, so persons ranked the same stay in the order of the address book
+        sortedPersons.setComparator(searchResult.order);
+    }
+
+    private NoteSearchIndex getNoteSearchIndex() {
+        if (noteSearchIndex == null) {
+            noteSearchIndex = new NoteSearchIndex();
+            noteSearchIndex.setPersons(addressBook.getPersonList());
+        }
+        return noteSearchIndex;
     }
 
     @Override
@@ -145,4 +380,45 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * Filters persons by a predicate, using the persons that match it as looked up in a search index,
+     * so that the filtered list does not need to test the predicate on every person.
+     */
+    private static class SearchResult implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Set<Person> matches;
+        /** Order of the persons found from most to least relevant, or null if they are not ranked. */
+        private final Comparator<Person> order;
+
+        SearchResult(Predicate<Person> predicate, Set<Person> matches, Comparator<Person> order) {
+            this.predicate = predicate;
+            this.matches = matches;
+            this.order = order;
+        }
+
+        boolean isRanked() {
+            return order != null;
+        }
+
+        /**
+         * Updates the matches after {@code target} is replaced with {@code editedPerson}.
+         */
+        void update(Person target, Person editedPerson) {
+            matches.remove(target);
+            if (predicate.test(editedPerson)) {
+                matches.add(editedPerson);
+            }
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches.contains(person);
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
+        }
+    }
+
 }
@@ -0,0 +1,259 @@
+package casetrack.app.model;
+
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import casetrack.app.model.AddressBookChange.NoteOperation;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate.Phrase;
+import casetrack.app.model.person.Person;
+
+/**
+ * A positional inverted index from the words in the notes of persons to the persons, which ranks the persons found
+ * by how relevant their notes are to the keywords searched for, using the BM25 ranking function.
+ *
+ * Each position records the note a word is in as well as where it is in the note, so that phrases are only found
+ * within a single note. Stop words are not indexed but still take up positions, so that a phrase like
+ * "visit to clinic" only matches notes with a single word between "visit" and "clinic".
+ *
+ * Persons are compared by reference, so a person must be removed using the same instance that was added. A person
+ * whose notes change by a single note can be replaced with {@link #updateNote}, which only indexes that note again.
+ */
+public class NoteSearchIndex {
+
+    /** How quickly the score for a term stops growing as the term appears more often in the notes of a person. */
+    private static final double K1 = 1.2;
+    /** How much the score for a term is lowered for persons with more words in their notes than average. */
+    private static final double B = 0.75;
+
+    // Positions are sorted, with the key of the note in the upper half and the position in the note in the lower
+    private final Map<String, Map<Entry, long[]>> positionsByTerm = new HashMap<>();
+    private final Map<Person, Entry> entries = new IdentityHashMap<>();
+    private long totalTermCount = 0;
+
+    /**
+     * Adds {@code person} and their notes to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Entry entry = new Entry(person);
+        for (Note note : person.getNotes()) {
+            entry.noteKeys.add(addNote(entry, note));
+        }
+        entries.put(person, entry);
+    }
+
+    /**
+     * Removes {@code person} and their notes from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Entry entry = entries.remove(person);
+        if (entry == null) {
+            return;
+        }
+        totalTermCount -= entry.termCount;
+
+        for (Note note : person.getNotes()) {
+            for (String word : NoteContainsKeywordsPredicate.toWords(note.value)) {
+                Map<Entry, long[]> postings = positionsByTerm.get(word);
+                if (postings != null) {
+                    postings.remove(entry);
+                    if (postings.isEmpty()) {
+                        positionsByTerm.remove(word);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the index with {@code editedPerson}, whose notes are those of {@code target} with
+     * {@code noteOperation} done on the note at {@code noteIndex}. Only that note is indexed again, rather than every
+     * note of {@code editedPerson}. For {@link NoteOperation#ADD}, {@code noteIndex} is the index of the added note in
+     * the notes of {@code editedPerson}; otherwise it is the index of the note in the notes of {@code target}.
+     */
+    public void updateNote(Person target, Person editedPerson, NoteOperation noteOperation, int noteIndex) {
+        requireAllNonNull(target, editedPerson, noteOperation);
+        Entry entry = entries.remove(target);
+        if (entry == null) {
+            add(editedPerson);
+            return;
+        }
+        entry.person = editedPerson;
+        entries.put(editedPerson, entry);
+
+        switch (noteOperation) {
+        case ADD:
+            entry.noteKeys.add(noteIndex, addNote(entry, editedPerson.getNotes().get(noteIndex)));
+            break;
+        case EDIT:
+            removeNote(entry, entry.noteKeys.get(noteIndex), target.getNotes().get(noteIndex));
+            entry.noteKeys.set(noteIndex, addNote(entry, editedPerson.getNotes().get(noteIndex)));
+            break;
+        case DELETE:
+            removeNote(entry, entry.noteKeys.remove(noteIndex), target.getNotes().get(noteIndex));
+            break;
+        default:
+            throw new AssertionError("Unknown note operation: " + noteOperation);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        positionsByTerm.clear();
+        entries.clear();
+        totalTermCount = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons in the index whose notes match {@code predicate}, each with a score that is higher the more
+     * relevant their notes are to the keywords of {@code predicate}. The map compares persons by reference.
+     */
+    public Map<Person, Double> search(NoteContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Map<Person, Double> scores = new IdentityHashMap<>();
+        double averageTermCount = entries.isEmpty() ? 0 : (double) totalTermCount / entries.size();
+
+        for (Phrase phrase : predicate.getPhrases()) {
+            Map<Entry, Integer> frequencies = getFrequencies(phrase);
+            double idf = Math.log(1 + (entries.size() - frequencies.size() + 0.5) / (frequencies.size() + 0.5));
+            frequencies.forEach((entry, frequency) -> {
+                double lengthRatio = entry.termCount / averageTermCount;
+                double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                scores.merge(entry.person, score, Double::sum);
+            });
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the number of times {@code phrase} appears in the notes of each person whose notes contain it.
+     */
+    private Map<Entry, Integer> getFrequencies(Phrase phrase) {
+        List<String> terms = phrase.getTerms();
+        List<Map<Entry, long[]>> postings = new ArrayList<>();
+        for (String term : terms) {
+            Map<Entry, long[]> termPostings = positionsByTerm.get(term);
+            if (termPostings == null) {
+                return Collections.emptyMap();
+            }
+            postings.add(termPostings);
+        }
+
+        Map<Entry, Integer> frequencies = new IdentityHashMap<>();
+        postings.get(0).forEach((entry, firstTermPositions) -> {
+            int frequency = 0;
+            for (long start : firstTermPositions) {
+                if (isPhraseAt(phrase, postings, entry, start)) {
+                    frequency++;
+                }
+            }
+            if (frequency > 0) {
+                frequencies.put(entry, frequency);
+            }
+        });
+        return frequencies;
+    }
+
+    private static boolean isPhraseAt(Phrase phrase, List<Map<Entry, long[]>> postings, Entry entry, long start) {
+        for (int i = 1; i < postings.size(); i++) {
+            long[] positions = postings.get(i).get(entry);
+            if (positions == null || Arrays.binarySearch(positions, start + phrase.getOffsets().get(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the positions of the words in {@code note} to the positions of {@code entry} under a new key, which is
+     * greater than the key of every note indexed for {@code entry} before, and returns that key.
+     */
+    private int addNote(Entry entry, Note note) {
+        int noteKey = entry.nextNoteKey++;
+        Map<String, List<Long>> positions = new HashMap<>();
+        List<String> words = NoteContainsKeywordsPredicate.toWords(note.value);
+        for (int i = 0; i < words.size(); i++) {
+            if (!NoteContainsKeywordsPredicate.STOP_WORDS.contains(words.get(i))) {
+                positions.computeIfAbsent(words.get(i), unused -> new ArrayList<>()).add(toPosition(noteKey, i));
+                entry.termCount++;
+                totalTermCount++;
+            }
+        }
+
+        positions.forEach((term, termPositions) -> positionsByTerm
+                .computeIfAbsent(term, unused -> new IdentityHashMap<>())
+                // The key is greater than those of the positions already there, so appending keeps them sorted
+                .merge(entry, termPositions.stream().mapToLong(Long::longValue).toArray(), NoteSearchIndex::concat));
+        return noteKey;
+    }
+
+    /**
+     * Removes the positions of the words in {@code note}, which is indexed for {@code entry} under {@code noteKey}.
+     */
+    private void removeNote(Entry entry, int noteKey, Note note) {
+        Set<String> words = new HashSet<>(NoteContainsKeywordsPredicate.toWords(note.value));
+        for (String word : words) {
+            Map<Entry, long[]> postings = positionsByTerm.get(word);
+            long[] positions = postings == null ? null : postings.get(entry);
+            if (positions == null) {
+                continue;
+            }
+
+            long[] remainingPositions = Arrays.stream(positions)
+                    .filter(position -> (int) (position >>> Integer.SIZE) != noteKey)
+                    .toArray();
+            entry.termCount -= positions.length - remainingPositions.length;
+            totalTermCount -= positions.length - remainingPositions.length;
+            if (remainingPositions.length > 0) {
+                postings.put(entry, remainingPositions);
+            } else if (postings.remove(entry) != null && postings.isEmpty()) {
+                positionsByTerm.remove(word);
+            }
+        }
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static long toPosition(int noteKey, int wordIndex) {
+        return ((long) noteKey << Integer.SIZE) | wordIndex;
+    }
+
+    /**
+     * The notes of a person in the index. Positions are kept for the entry rather than the person, so that a person
+     * can be replaced by an edited instance without moving every position of their notes.
+     */
+    private static class Entry {
+        private Person person;
+        // The key each note is indexed under, in the order of the notes. Keys are never reused, so the key of an
+        // edited note differs from the key it had before, and notes after a deleted note keep their keys.
+        private final List<Integer> noteKeys = new ArrayList<>();
+        private int nextNoteKey = 0;
+        private int termCount = 0;
+
+        private Entry(Person person) {
+            this.person = person;
+        }
+    }
+
+}
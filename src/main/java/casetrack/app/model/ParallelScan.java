@@ -0,0 +1,85 @@
+package casetrack.app.model;
+
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import casetrack.app.model.person.Person;
+
+/**
+ * Finds the persons in a list that match a predicate that cannot be looked up in a search index, by splitting the
+ * list into chunks and testing the predicate on the chunks in parallel in the common fork-join pool.
+ *
+ * The list must not be changed while it is being scanned, and the predicate must be safe to test from several
+ * threads at once.
+ */
+class ParallelScan extends RecursiveTask<List<Person>> {
+
+    /** Smallest number of persons worth scanning in parallel, below which splitting up the work costs more. */
+    private static final int MIN_PARALLEL_SIZE = 20_000;
+    /** Number of persons tested by a single task without splitting it further. */
+    private static final int CHUNK_SIZE = 4_096;
+
+    // Tasks are never serialized, but RecursiveTask is Serializable
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Person> persons;
+    private final transient Predicate<Person> predicate;
+    private final int start;
+    private final int end;
+
+    private ParallelScan(List<Person> persons, Predicate<Person> predicate, int start, int end) {
+        this.persons = persons;
+        this.predicate = predicate;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns true if scanning {@code size} persons in parallel is likely to be faster than testing them one after
+     * another, which needs enough persons to make up for splitting up the work and more than one thread to run on.
+     */
+    static boolean isWorthwhile(int size) {
+        return size >= MIN_PARALLEL_SIZE && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match {@code predicate}, as a set compared by reference.
+     */
+    static Set<Person> find(List<Person> persons, Predicate<Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        List<Person> matchList = ForkJoinPool.commonPool().invoke(
+                new ParallelScan(persons, predicate, 0, persons.size()));
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>(matchList.size()));
+        matches.addAll(matchList);
+        return matches;
+    }
+
+    @Override
+    protected List<Person> compute() {
+        if (end - start <= CHUNK_SIZE) {
+            List<Person> matches = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                if (predicate.test(persons.get(i))) {
+                    matches.add(persons.get(i));
+                }
+            }
+            return matches;
+        }
+
+        int middle = (start + end) >>> 1;
+        ParallelScan firstHalf = new ParallelScan(persons, predicate, start, middle);
+        firstHalf.fork();
+        List<Person> secondHalfMatches = new ParallelScan(persons, predicate, middle, end).compute();
+        List<Person> matches = firstHalf.join();
+        matches.addAll(secondHalfMatches);
+        return matches;
+    }
+}
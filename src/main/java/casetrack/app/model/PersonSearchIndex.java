@@ -0,0 +1,271 @@
+package casetrack.app.model;
+
+import static casetrack.app.commons.util.StringUtil.foldCase;
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import casetrack.app.model.person.EmailContainsKeywordsPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate;
+import casetrack.app.model.person.IncomeInRangePredicate;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NameSimilarToKeywordsPredicate;
+import casetrack.app.model.person.NameStartsWithKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
+import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
+
+/**
+ * An inverted index from the words, incomes, and parts of the emails and phone numbers of persons to the persons.
+ * Tags are indexed by the address book itself (see {@link TagIndex}).
+ * The index finds the persons matching a keyword predicate without testing the predicate on every person, so the
+ * time taken depends on the number of persons found rather than the number of persons in the index.
+ * Name words are kept sorted, so that the persons with a name word starting with a prefix are found next to each
+ * other without looking at the other name words, and are also kept in a {@code BkTree} to find the name words spelt
+ * like a keyword. Incomes are kept sorted too, so that the persons with incomes in a range are found without looking
+ * at the other incomes.
+ *
+ * Persons are compared by reference, so a person must be removed using the same instance that was added.
+ */
+public class PersonSearchIndex {
+
+    /** Length of the parts of emails and phone numbers that are indexed. Shorter keywords cannot be looked up. */
+    private static final int GRAM_LENGTH = 3;
+
+    private final NavigableMap<String, Set<Person>> personsByNameWord = new TreeMap<>();
+    // Name words no longer used by any person stay in the tree until the index is replaced, and are skipped
+    private final BkTree nameWordTree = new BkTree();
+    private final NavigableMap<BigDecimal, Set<Person>> personsByIncome = new TreeMap<>();
+    private final Map<String, Set<Person>> personsByEmailGram = new HashMap<>();
+    private final Map<String, Set<Person>> personsByPhoneGram = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : getNameWords(person)) {
+            if (!personsByNameWord.containsKey(word)) {
+                nameWordTree.add(word);
+            }
+            addPosting(personsByNameWord, word, person);
+        }
+        addPosting(personsByIncome, person.getIncome().getValue(), person);
+        getGrams(person.getEmail().value.toLowerCase())
+                .forEach(gram -> addPosting(personsByEmailGram, gram, person));
+        getGrams(person.getPhone().value).forEach(gram -> addPosting(personsByPhoneGram, gram, person));
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        getNameWords(person).forEach(word -> removePosting(personsByNameWord, word, person));
+        removePosting(personsByIncome, person.getIncome().getValue(), person);
+        getGrams(person.getEmail().value.toLowerCase())
+                .forEach(gram -> removePosting(personsByEmailGram, gram, person));
+        getGrams(person.getPhone().value).forEach(gram -> removePosting(personsByPhoneGram, gram, person));
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        personsByNameWord.clear();
+        nameWordTree.clear();
+        personsByIncome.clear();
+        personsByEmailGram.clear();
+        personsByPhoneGram.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons in the index that match {@code predicate}, as a set compared by reference,
+     * or an empty {@code Optional} if {@code predicate} cannot be looked up in the index.
+     */
+    public Optional<Set<Person>> find(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        // Name words are indexed whole, so the persons found for them match exactly
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            return Optional.of(union(keywords.stream()
+                    .map(keyword -> personsByNameWord.getOrDefault(foldCase(keyword), Collections.emptySet()))
+                    .collect(Collectors.toList())));
+        } else if (predicate instanceof NameStartsWithKeywordsPredicate) {
+            List<String> keywords = ((NameStartsWithKeywordsPredicate) predicate).getKeywords();
+            Set<Person> persons = newPersonSet();
+            keywords.forEach(keyword -> persons.addAll(findByNamePrefix(keyword, Integer.MAX_VALUE)));
+            return Optional.of(persons);
+        } else if (predicate instanceof NameSimilarToKeywordsPredicate) {
+            Set<Person> persons = newPersonSet();
+            persons.addAll(findBySimilarName((NameSimilarToKeywordsPredicate) predicate).keySet());
+            return Optional.of(persons);
+        } else if (predicate instanceof IncomeInRangePredicate) {
+            IncomeInRangePredicate range = (IncomeInRangePredicate) predicate;
+            NavigableMap<BigDecimal, Set<Person>> postings = personsByIncome;
+            if (range.getMin().isPresent()) {
+                postings = postings.tailMap(range.getMin().get(), true);
+            }
+            if (range.getMax().isPresent()) {
+                postings = postings.headMap(range.getMax().get(), true);
+            }
+            return Optional.of(union(postings.values()));
+        } else if (predicate instanceof IncomeComparisonPredicate) {
+            return Optional.of(union(findByIncome((IncomeComparisonPredicate) predicate).values()));
+        } else if (predicate instanceof EmailContainsKeywordsPredicate) {
+            List<String> keywords = ((EmailContainsKeywordsPredicate) predicate).getKeywords().stream()
+                    .map(String::toLowerCase)
+                    .collect(Collectors.toList());
+            return findByGrams(personsByEmailGram, keywords, predicate);
+        } else if (predicate instanceof PhoneContainsKeywordsPredicate) {
+            // Keywords that are not valid phone numbers never match
+            List<String> keywords = ((PhoneContainsKeywordsPredicate) predicate).getKeywords().stream()
+                    .filter(Phone::isValidPhone)
+                    .collect(Collectors.toList());
+            return findByGrams(personsByPhoneGram, keywords, predicate);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns up to {@code limit} persons in the index with a name word starting with {@code prefix}, ignoring case,
+     * in the order of their name words. The time taken grows with {@code limit} rather than the number of persons.
+     */
+    public List<Person> findByNamePrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        String foldedPrefix = foldCase(prefix);
+        Set<Person> found = newPersonSet();
+        List<Person> persons = new ArrayList<>();
+        // The words starting with the prefix are all at the start of the words from the prefix onwards
+        for (Map.Entry<String, Set<Person>> entry : personsByNameWord.tailMap(foldedPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            for (Person person : entry.getValue()) {
+                if (persons.size() == limit) {
+                    return persons;
+                }
+                if (found.add(person)) {
+                    persons.add(person);
+                }
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons in the index that match {@code predicate}, each with the smallest edit distance between a
+     * word of their name and a keyword it is spelt like. The map compares persons by reference.
+     */
+    public Map<Person, Integer> findBySimilarName(NameSimilarToKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        for (String keyword : predicate.getKeywords()) {
+            int maxDistance = NameSimilarToKeywordsPredicate.getMaxDistance(keyword);
+            nameWordTree.forEachWithin(foldCase(keyword), maxDistance, (word, distance) -> personsByNameWord
+                    .getOrDefault(word, Collections.emptySet())
+                    .forEach(person -> distances.merge(person, distance, Math::min)));
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the persons with each income that compares to the amount of {@code predicate} as it requires.
+     */
+    private NavigableMap<BigDecimal, Set<Person>> findByIncome(IncomeComparisonPredicate predicate) {
+        BigDecimal amount = predicate.getAmount();
+        switch (predicate.getOperator()) {
+        case LESS_THAN:
+            return personsByIncome.headMap(amount, false);
+        case AT_MOST:
+            return personsByIncome.headMap(amount, true);
+        case GREATER_THAN:
+            return personsByIncome.tailMap(amount, false);
+        case AT_LEAST:
+            return personsByIncome.tailMap(amount, true);
+        default:
+            return personsByIncome.subMap(amount, true, amount, true);
+        }
+    }
+
+    /**
+     * Returns the persons that match {@code predicate}, out of those whose indexed values contain every gram of any
+     * of the {@code keywords} in {@code personsByGram}, or an empty {@code Optional} if a keyword is too short to
+     * look up.
+     */
+    private static Optional<Set<Person>> findByGrams(Map<String, Set<Person>> personsByGram, List<String> keywords,
+            Predicate<Person> predicate) {
+        if (keywords.stream().anyMatch(keyword -> keyword.length() < GRAM_LENGTH)) {
+            return Optional.empty();
+        }
+
+        Set<Person> candidates = newPersonSet();
+        for (String keyword : keywords) {
+            // A value contains the keyword only if it contains every gram of the keyword
+            List<Set<Person>> postings = getGrams(keyword).stream()
+                    .map(gram -> personsByGram.getOrDefault(gram, Collections.emptySet()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .collect(Collectors.toList());
+            postings.get(0).stream()
+                    .filter(person -> postings.stream().allMatch(posting -> posting.contains(person)))
+                    .forEach(candidates::add);
+        }
+        // Containing every gram of a keyword does not mean containing the keyword itself
+        candidates.removeIf(predicate.negate());
+        return Optional.of(candidates);
+    }
+
+    private static Set<Person> union(Collection<Set<Person>> postings) {
+        Set<Person> persons = newPersonSet();
+        postings.forEach(persons::addAll);
+        return persons;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static <K> void addPosting(Map<K, Set<Person>> index, K token, Person person) {
+        index.computeIfAbsent(token, unused -> newPersonSet()).add(person);
+    }
+
+    private static <K> void removePosting(Map<K, Set<Person>> index, K token, Person person) {
+        Set<Person> persons = index.get(token);
+        if (persons != null) {
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                index.remove(token);
+            }
+        }
+    }
+
+    private static Set<String> getNameWords(Person person) {
+        return new HashSet<>(person.getName().getFoldedWords());
+    }
+
+    private static Set<String> getGrams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+}
@@ -0,0 +1,96 @@
+package casetrack.app.model;
+
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.Person;
+
+/**
+ * Finds the persons matching a query made of {@code AndPredicate}s and {@code OrPredicate}s of simpler predicates,
+ * looking up as much of the query as possible in search indexes instead of testing it on every person.
+ *
+ * The persons matching all the operands of an {@code AndPredicate} are found by looking up the operands that can be
+ * looked up, then going through the smallest set of persons found and keeping those that are in every other set and
+ * match every operand that cannot be looked up. An {@code OrPredicate} can only be looked up if all its operands can.
+ */
+class QueryPlanner {
+
+    /**
+     * Returns the persons matching {@code predicate}, as a set compared by reference, or an empty {@code Optional} if
+     * {@code predicate} must be tested on every person. Predicates are looked up with {@code lookUp}, which returns
+     * an empty {@code Optional} for those it cannot look up, and {@code AndPredicate}s and {@code OrPredicate}s that
+     * cannot be looked up whole are split into their operands.
+     */
+    static Optional<Set<Person>> find(Predicate<Person> predicate,
+            Function<Predicate<Person>, Optional<Set<Person>>> lookUp) {
+        requireAllNonNull(predicate, lookUp);
+        // A whole query may be looked up at once, such as one combining only tag searches
+        Optional<Set<Person>> matches = lookUp.apply(predicate);
+        if (matches.isPresent()) {
+            return matches;
+        } else if (predicate instanceof AndPredicate) {
+            return findAll(((AndPredicate) predicate).getOperands(), lookUp);
+        } else if (predicate instanceof OrPredicate) {
+            return findAny(((OrPredicate) predicate).getOperands(), lookUp);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Set<Person>> findAll(List<Predicate<Person>> operands,
+            Function<Predicate<Person>, Optional<Set<Person>>> lookUp) {
+        List<Set<Person>> postings = new ArrayList<>();
+        List<Predicate<Person>> unindexedOperands = new ArrayList<>();
+        for (Predicate<Person> operand : operands) {
+            Optional<Set<Person>> matches = find(operand, lookUp);
+            if (matches.isEmpty()) {
+                unindexedOperands.add(operand);
+            } else if (matches.get().isEmpty()) {
+                // No person can match every operand, so the remaining operands need not be looked up
+                return Optional.of(newPersonSet());
+            } else {
+                postings.add(matches.get());
+            }
+        }
+        if (postings.isEmpty()) {
+            return Optional.empty();
+        }
+
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Person> persons = newPersonSet();
+        for (Person person : postings.get(0)) {
+            if (postings.stream().allMatch(posting -> posting.contains(person))
+                    && unindexedOperands.stream().allMatch(operand -> operand.test(person))) {
+                persons.add(person);
+            }
+        }
+        return Optional.of(persons);
+    }
+
+    private static Optional<Set<Person>> findAny(List<Predicate<Person>> operands,
+            Function<Predicate<Person>, Optional<Set<Person>>> lookUp) {
+        Set<Person> persons = newPersonSet();
+        for (Predicate<Person> operand : operands) {
+            Optional<Set<Person>> matches = find(operand, lookUp);
+            if (matches.isEmpty()) {
+                return Optional.empty();
+            }
+            persons.addAll(matches.get());
+        }
+        return Optional.of(persons);
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -2,6 +2,7 @@ package casetrack.app.model;
 
 import java.nio.file.Path;
 
+import casetrack.app.commons.core.AddressBookFormat;
 import casetrack.app.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
 }
@@ -0,0 +1,188 @@
+package casetrack.app.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.model.tag.TagRegistry;
+
+/**
+ * An index from the tags of the persons in an address book to the persons with them, which keeps the number of
+ * persons with each tag.
+ *
+ * Each person is given a slot, a small integer that is reused once the person is removed, and each tag, by its
+ * ordinal in {@link TagRegistry}, has a bitmap of the slots of the persons with it. Persons with any of several tags
+ * are found by OR-ing the bitmaps of the tags, and queries combining tag searches with AND, OR and NOT by AND-ing,
+ * OR-ing and AND-NOT-ing them, so no person's tags are looked at.
+ */
+class TagIndex {
+
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    // The person in each slot, or null if the slot is free
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+    // Indexed by tag ordinal; the bitmap of a tag no person has had yet may be missing
+    private final List<BitSet> slotsByOrdinal = new ArrayList<>();
+    private int[] counts = new int[0];
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = occupiedSlots.nextClearBit(0);
+        occupiedSlots.set(slot);
+        slots.put(person, slot);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+
+        person.getTags().forEachOrdinal(ordinal -> {
+            while (slotsByOrdinal.size() <= ordinal) {
+                slotsByOrdinal.add(new BitSet());
+            }
+            if (counts.length <= ordinal) {
+                counts = Arrays.copyOf(counts, Math.max(ordinal + 1, counts.length * 2));
+            }
+            slotsByOrdinal.get(ordinal).set(slot);
+            counts[ordinal]++;
+        });
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        occupiedSlots.clear(slot);
+        personsBySlot.set(slot, null);
+        person.getTags().forEachOrdinal(ordinal -> {
+            slotsByOrdinal.get(ordinal).clear(slot);
+            counts[ordinal]--;
+        });
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        slots.clear();
+        personsBySlot.clear();
+        occupiedSlots.clear();
+        slotsByOrdinal.clear();
+        counts = new int[0];
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of persons in the index with {@code tag}.
+     */
+    public int getCount(Tag tag) {
+        requireNonNull(tag);
+        int ordinal = TagRegistry.ordinalOf(tag);
+        return ordinal >= 0 && ordinal < counts.length ? counts[ordinal] : 0;
+    }
+
+    /**
+     * Returns the number of persons in the index with each tag that any person in the index has, in the order in
+     * which the tags were interned.
+     */
+    public Map<Tag, Integer> getCounts() {
+        Map<Tag, Integer> tagCounts = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            if (counts[ordinal] > 0) {
+                tagCounts.put(TagRegistry.get(ordinal), counts[ordinal]);
+            }
+        }
+        return tagCounts;
+    }
+
+    /**
+     * Returns the persons in the index that match {@code predicate}, as a set compared by reference, or an empty
+     * {@code Optional} if {@code predicate} is not a {@code TagContainsKeywordsPredicate}, or an
+     * {@code AndPredicate}, {@code OrPredicate} or {@code NotPredicate} of such predicates only.
+     */
+    public Optional<Set<Person>> find(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return findSlots(predicate).map(this::toPersons);
+    }
+
+    /**
+     * Returns the slots of the persons that match {@code predicate}, in a new bitmap that may be changed, or an empty
+     * {@code Optional} if {@code predicate} cannot be looked up.
+     */
+    private Optional<BitSet> findSlots(Predicate<Person> predicate) {
+        if (predicate instanceof TagContainsKeywordsPredicate) {
+            BitSet matchingOrdinals = ((TagContainsKeywordsPredicate) predicate).getMatchingOrdinals();
+            BitSet slots = new BitSet();
+            for (int ordinal = matchingOrdinals.nextSetBit(0); ordinal >= 0 && ordinal < slotsByOrdinal.size();
+                    ordinal = matchingOrdinals.nextSetBit(ordinal + 1)) {
+                slots.or(slotsByOrdinal.get(ordinal));
+            }
+            return Optional.of(slots);
+        } else if (predicate instanceof AndPredicate || predicate instanceof OrPredicate) {
+            boolean isAnd = predicate instanceof AndPredicate;
+            List<Predicate<Person>> operands = isAnd
+                    ? ((AndPredicate) predicate).getOperands()
+                    : ((OrPredicate) predicate).getOperands();
+            if (operands.isEmpty()) {
+                return Optional.empty();
+            }
+            BitSet slots = null;
+            for (Predicate<Person> operand : operands) {
+                Optional<BitSet> operandSlots = findSlots(operand);
+                if (operandSlots.isEmpty()) {
+                    return Optional.empty();
+                }
+                if (slots == null) {
+                    slots = operandSlots.get();
+                } else if (isAnd) {
+                    slots.and(operandSlots.get());
+                } else {
+                    slots.or(operandSlots.get());
+                }
+            }
+            return Optional.of(slots);
+        } else if (predicate instanceof NotPredicate) {
+            Optional<BitSet> operandSlots = findSlots(((NotPredicate) predicate).getOperand());
+            if (operandSlots.isEmpty()) {
+                return Optional.empty();
+            }
+            BitSet slots = (BitSet) occupiedSlots.clone();
+            slots.andNot(operandSlots.get());
+            return Optional.of(slots);
+        }
+        return Optional.empty();
+    }
+
+    private Set<Person> toPersons(BitSet slots) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>(slots.cardinality()));
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            persons.add(personsBySlot.get(slot));
+        }
+        return persons;
+    }
+}
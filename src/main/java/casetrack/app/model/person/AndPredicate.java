@@ -0,0 +1,58 @@
+package casetrack.app.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches all of the predicates given.
+ * The predicates are kept so that the persons matching the most selective of them can be looked up first.
+ */
+public class AndPredicate implements Predicate<Person> {
+    private final List<Predicate<Person>> operands;
+
+    /**
+     * Constructs a {@code AndPredicate} of the given {@code operands}.
+     */
+    public AndPredicate(List<Predicate<Person>> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Predicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().allMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndPredicate)) {
+            return false;
+        }
+
+        AndPredicate otherAndPredicate = (AndPredicate) other;
+        return operands.equals(otherAndPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -15,6 +15,10 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
@@ -36,6 +40,11 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherEmailContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,118 @@
+package casetrack.app.model.person;
+
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Income} compares to the amount given as required by the operator given.
+ */
+public class IncomeComparisonPredicate implements Predicate<Person> {
+
+    /**
+     * How an income must compare to the amount.
+     */
+    public enum Operator {
+        LESS_THAN("<"), AT_MOST("<="), GREATER_THAN(">"), AT_LEAST(">="), EQUAL_TO("=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns the operator written as {@code symbol}, if there is one.
+         */
+        public static Optional<Operator> fromSymbol(String symbol) {
+            return Arrays.stream(values())
+                    .filter(operator -> operator.symbol.equals(symbol))
+                    .findFirst();
+        }
+
+        /**
+         * Returns true if an income that compares to the amount with a result of {@code comparison}, as returned by
+         * {@link BigDecimal#compareTo(BigDecimal)}, is allowed by this operator.
+         */
+        public boolean isAllowed(int comparison) {
+            switch (this) {
+            case LESS_THAN:
+                return comparison < 0;
+            case AT_MOST:
+                return comparison <= 0;
+            case GREATER_THAN:
+                return comparison > 0;
+            case AT_LEAST:
+                return comparison >= 0;
+            default:
+                return comparison == 0;
+            }
+        }
+    }
+
+    private final Operator operator;
+    private final BigDecimal amount;
+
+    /**
+     * Constructs an {@code IncomeComparisonPredicate} for incomes comparing to {@code amount} as {@code operator}
+     * requires.
+     */
+    public IncomeComparisonPredicate(Operator operator, BigDecimal amount) {
+        requireAllNonNull(operator, amount);
+        this.operator = operator;
+        this.amount = amount;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operator.isAllowed(person.getIncome().getValue().compareTo(amount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IncomeComparisonPredicate)) {
+            return false;
+        }
+
+        IncomeComparisonPredicate otherIncomeComparisonPredicate = (IncomeComparisonPredicate) other;
+        return operator == otherIncomeComparisonPredicate.operator
+                && amount.compareTo(otherIncomeComparisonPredicate.amount) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        // Amounts that are equal in value have the same hash code however many decimal places they are written with
+        return Objects.hash(operator, amount.stripTrailingZeros());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operator", operator.getSymbol())
+                .add("amount", amount.toPlainString())
+                .toString();
+    }
+}
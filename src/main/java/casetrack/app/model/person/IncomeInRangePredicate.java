@@ -0,0 +1,77 @@
+package casetrack.app.model.person;
+
+import static casetrack.app.commons.util.AppUtil.checkArgument;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Income} is within the range given, including both ends.
+ * A range may be open at either end.
+ */
+public class IncomeInRangePredicate implements Predicate<Person> {
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    /**
+     * Constructs an {@code IncomeInRangePredicate} for incomes from {@code min} to {@code max}.
+     * Either may be null, for a range with no lower or upper end, but {@code min} must not be more than {@code max}.
+     */
+    public IncomeInRangePredicate(BigDecimal min, BigDecimal max) {
+        checkArgument(min == null || max == null || min.compareTo(max) <= 0, "Range must not end before it starts");
+        this.min = min;
+        this.max = max;
+    }
+
+    public Optional<BigDecimal> getMin() {
+        return Optional.ofNullable(min);
+    }
+
+    public Optional<BigDecimal> getMax() {
+        return Optional.ofNullable(max);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        BigDecimal income = person.getIncome().getValue();
+        return (min == null || income.compareTo(min) >= 0) && (max == null || income.compareTo(max) <= 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IncomeInRangePredicate)) {
+            return false;
+        }
+
+        IncomeInRangePredicate otherIncomeInRangePredicate = (IncomeInRangePredicate) other;
+        return isSameAmount(min, otherIncomeInRangePredicate.min) && isSameAmount(max, otherIncomeInRangePredicate.max);
+    }
+
+    private static boolean isSameAmount(BigDecimal first, BigDecimal second) {
+        return first == null || second == null ? Objects.equals(first, second) : first.compareTo(second) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        // Amounts that are equal in value have the same hash code however many decimal places they are written with
+        return Objects.hash(min == null ? null : min.stripTrailingZeros(),
+                max == null ? null : max.stripTrailingZeros());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("min", min == null ? null : min.toPlainString())
+                .add("max", max == null ? null : max.toPlainString())
+                .toString();
+    }
+}
@@ -3,6 +3,10 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import casetrack.app.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,6 +25,11 @@ public class Name {
 
     public final String fullName;
 
+    /** The words of the name folded with {@link StringUtil#foldCase(String)}, split once when first needed. */
+    private List<String> foldedWords;
+    /** The name as compared by {@link #equals(Object)}, normalized once when first needed. */
+    private String normalizedName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -39,6 +48,17 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of the name, each folded with {@link StringUtil#foldCase(String)} so that they can be
+     * compared to folded keywords without splitting and folding the name on every search.
+     */
+    public List<String> getFoldedWords() {
+        if (foldedWords == null) {
+            // The list is immutable, so a name read by several threads at most splits its words more than once
+            foldedWords = StringUtil.splitWords(StringUtil.foldCase(fullName));
+        }
+        return foldedWords;
+    }
 
     @Override
     public String toString() {
@@ -57,19 +77,27 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return normalizedName(fullName).equals(normalizedName(otherName.fullName));
+        return normalizedName().equals(otherName.normalizedName());
     }
 
+    /**
+     * Returns the hash code of the normalized name, which is computed once, as {@code String} caches its own hash.
+     */
     @Override
     public int hashCode() {
-        return normalizedName(fullName).hashCode();
+        return normalizedName().hashCode();
     }
 
     /**
-     * Normalizes a name by converting to lowercase and replacing multiple consecutive spaces with a single space.
+     * Returns the name converted to lowercase with multiple consecutive spaces replaced with a single space,
+     * normalizing it the first time it is needed.
      */
-    private static String normalizedName(String name) {
-        return name.toLowerCase().replaceAll("\\s+", " ").trim();
+    private String normalizedName() {
+        if (normalizedName == null) {
+            // Strings are immutable, so a name read by several threads at most normalizes itself more than once
+            normalizedName = fullName.toLowerCase().replaceAll("\\s+", " ").trim();
+        }
+        return normalizedName;
     }
 
 }
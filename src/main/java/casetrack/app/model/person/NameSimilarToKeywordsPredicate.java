@@ -0,0 +1,92 @@
+package casetrack.app.model.person;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.StringUtil;
+import casetrack.app.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is spelt like any of the keywords given, ignoring case.
+ * A word is spelt like a keyword if it is within the keyword's maximum edit distance of the keyword, which allows
+ * more mistakes in longer keywords.
+ */
+public class NameSimilarToKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+    private final List<String> foldedKeywords;
+
+    /**
+     * Creates a predicate that tests for names with a word spelt like any of {@code keywords}.
+     */
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.foldedKeywords = keywords.stream().map(StringUtil::foldCase).toList();
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the largest edit distance from {@code keyword} at which a word is still spelt like it.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns the smallest edit distance between a word of the name of {@code person} and a keyword it is spelt
+     * like, or an empty {@code OptionalInt} if no word of the name is spelt like any keyword.
+     */
+    public OptionalInt getDistance(Person person) {
+        List<String> words = person.getName().getFoldedWords();
+        int minDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < keywords.size(); i++) {
+            int maxDistance = getMaxDistance(keywords.get(i));
+            for (String word : words) {
+                int distance = StringUtil.getEditDistance(foldedKeywords.get(i), word);
+                if (distance <= maxDistance) {
+                    minDistance = Math.min(minDistance, distance);
+                }
+            }
+        }
+        return minDistance == Integer.MAX_VALUE ? OptionalInt.empty() : OptionalInt.of(minDistance);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person).isPresent();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherNameSimilarToKeywordsPredicate = (NameSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherNameSimilarToKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,59 @@
+package casetrack.app.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} starts with any of the keywords given, ignoring case.
+ */
+public class NameStartsWithKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+
+    public NameStartsWithKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> words = person.getName().getFoldedWords();
+        for (String keyword : keywords) {
+            for (String word : words) {
+                if (word.regionMatches(true, 0, keyword, 0, keyword.length())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameStartsWithKeywordsPredicate)) {
+            return false;
+        }
+
+        NameStartsWithKeywordsPredicate otherNameStartsWithKeywordsPredicate = (NameStartsWithKeywordsPredicate) other;
+        return keywords.equals(otherNameStartsWithKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,56 @@
+package casetrack.app.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} does not match the predicate given.
+ */
+public class NotPredicate implements Predicate<Person> {
+    private final Predicate<Person> operand;
+
+    /**
+     * Constructs a {@code NotPredicate} of the given {@code operand}.
+     */
+    public NotPredicate(Predicate<Person> operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Predicate<Person> getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherNotPredicate = (NotPredicate) other;
+        return operand.equals(otherNotPredicate.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
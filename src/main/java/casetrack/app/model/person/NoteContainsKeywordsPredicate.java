@@ -0,0 +1,147 @@
+package casetrack.app.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+
+/**
+ * Tests that any of a {@code Person}'s {@code Note}s contains any of the keywords given.
+ * Notes are matched by whole words, ignoring case and common words such as "the". A keyword of more than one word,
+ * such as "home visit", is a phrase that only matches a note containing its words next to each other.
+ */
+public class NoteContainsKeywordsPredicate implements Predicate<Person> {
+
+    /** Words that are too common in notes to be worth searching for. */
+    public static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "has", "in", "is", "it", "of", "on", "or", "that", "the", "to", "was", "were", "with");
+
+    private static final String WORD_SEPARATOR_REGEX = "[^\\p{L}\\p{N}]+";
+
+    private final List<String> keywords;
+
+    public NoteContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the lower-cased words in {@code text}, in order, including stop words.
+     */
+    public static List<String> toWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase().split(WORD_SEPARATOR_REGEX)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the phrases to search for, one for each keyword that is not made up of stop words only.
+     */
+    public List<Phrase> getPhrases() {
+        List<Phrase> phrases = new ArrayList<>();
+        for (String keyword : keywords) {
+            List<String> words = toWords(keyword);
+            List<String> terms = new ArrayList<>();
+            List<Integer> offsets = new ArrayList<>();
+            for (int i = 0; i < words.size(); i++) {
+                if (!STOP_WORDS.contains(words.get(i))) {
+                    terms.add(words.get(i));
+                    offsets.add(i);
+                }
+            }
+            if (!terms.isEmpty()) {
+                int firstOffset = offsets.get(0);
+                offsets.replaceAll(offset -> offset - firstOffset);
+                phrases.add(new Phrase(terms, offsets));
+            }
+        }
+        return phrases;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<Phrase> phrases = getPhrases();
+        return person.getNotes().stream()
+                .map(note -> toWords(note.value))
+                .anyMatch(words -> phrases.stream().anyMatch(phrase -> phrase.isIn(words)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        NoteContainsKeywordsPredicate otherNoteContainsKeywordsPredicate = (NoteContainsKeywordsPredicate) other;
+        return keywords.equals(otherNoteContainsKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+
+    /**
+     * The words of a keyword that are not stop words, each with its offset from the first of them.
+     * A single word is a phrase of one term.
+     */
+    public static class Phrase {
+        private final List<String> terms;
+        private final List<Integer> offsets;
+
+        Phrase(List<String> terms, List<Integer> offsets) {
+            this.terms = Collections.unmodifiableList(terms);
+            this.offsets = Collections.unmodifiableList(offsets);
+        }
+
+        public List<String> getTerms() {
+            return terms;
+        }
+
+        public List<Integer> getOffsets() {
+            return offsets;
+        }
+
+        /**
+         * Returns true if the terms appear in {@code words} at their offsets from some position.
+         */
+        public boolean isIn(List<String> words) {
+            for (int start = 0; start < words.size(); start++) {
+                if (isAt(words, start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isAt(List<String> words, int start) {
+            for (int i = 0; i < terms.size(); i++) {
+                int position = start + offsets.get(i);
+                if (position >= words.size() || !words.get(position).equals(terms.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package casetrack.app.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches any of the predicates given.
+ */
+public class OrPredicate implements Predicate<Person> {
+    private final List<Predicate<Person>> operands;
+
+    /**
+     * Constructs an {@code OrPredicate} of the given {@code operands}.
+     */
+    public OrPredicate(List<Predicate<Person>> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Predicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().anyMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrPredicate)) {
+            return false;
+        }
+
+        OrPredicate otherOrPredicate = (OrPredicate) other;
+        return operands.equals(otherOrPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -2,15 +2,16 @@ package casetrack.app.model.person;
 
 import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import casetrack.app.commons.util.PersistentList;
 import casetrack.app.commons.util.ToStringBuilder;
 import casetrack.app.model.tag.Tag;
+import casetrack.app.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -18,6 +19,12 @@ import casetrack.app.model.tag.Tag;
  */
 public class Person {
 
+    /** The ID of a person who has not been added to an address book, which assigns the person an ID. */
+    public static final long NO_ID = 0;
+
+    // Assigned by the address book, and kept by every version of this person made by editing it
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -27,8 +34,17 @@ public class Person {
     private final Address address;
     private final Income income;
     private final MedicalInfo medicalInfo;
-    private final Set<Tag> tags = new HashSet<>();
-    private final List<Note> notes = new ArrayList<>();
+    // Only the ordinals of the interned tags are stored
+    private final TagSet tags;
+    // Shared with the other versions of this person made by adding, editing or removing a note, or null if the notes
+    // have not been loaded yet; volatile so that only loading them needs the lock of this person
+    private volatile PersistentList<Note> notes;
+
+    // Loads the notes when they are first needed, or null if the notes have been loaded; guarded by this person
+    private Supplier<List<Note>> notesLoader;
+
+    // Cached by hashCode(), or 0 if not computed yet; computing it again on another thread gives the same value
+    private int hash;
 
     /**
      * Every field must be present and not null.
@@ -42,7 +58,9 @@ public class Person {
         this.address = address;
         this.income = income;
         this.medicalInfo = medicalInfo;
-        this.tags.addAll(tags);
+        this.id = NO_ID;
+        this.tags = TagSet.copyOf(tags);
+        this.notes = PersistentList.empty();
     }
 
     /**
@@ -57,8 +75,77 @@ public class Person {
         this.address = address;
         this.income = income;
         this.medicalInfo = medicalInfo;
-        this.tags.addAll(tags);
-        this.notes.addAll(notes);
+        this.id = NO_ID;
+        this.tags = TagSet.copyOf(tags);
+        this.notes = PersistentList.copyOf(notes);
+    }
+
+    /**
+     * Constructor with notes that are loaded by {@code notesLoader} when they are first needed.
+     * {@code notesLoader} is called at most once, and may be called on any thread.
+     */
+    public Person(Name name, Phone phone, Email email, Address address,
+            Income income, MedicalInfo medicalInfo, Set<Tag> tags, Supplier<List<Note>> notesLoader) {
+        requireAllNonNull(name, phone, email, address, income, medicalInfo, tags, notesLoader);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.income = income;
+        this.medicalInfo = medicalInfo;
+        this.id = NO_ID;
+        this.tags = TagSet.copyOf(tags);
+        this.notesLoader = notesLoader;
+    }
+
+    /**
+     * Constructs a copy of {@code source} with the given {@code id} and notes, sharing every other field with
+     * {@code source}, as none of them is ever changed.
+     * If {@code notes} is null, the notes are loaded by {@code notesLoader} when they are first needed instead.
+     */
+    private Person(Person source, long id, PersistentList<Note> notes, Supplier<List<Note>> notesLoader) {
+        this.id = id;
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.income = source.income;
+        this.medicalInfo = source.medicalInfo;
+        this.tags = source.tags;
+        this.notes = notes;
+        this.notesLoader = notesLoader;
+    }
+
+    /**
+     * Returns the ID assigned to this person by the address book, or {@link #NO_ID} if this person has not been
+     * added to an address book.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code id}.
+     * Notes that have not been loaded yet are not loaded by copying the person, but by the copy when it first needs
+     * them, with the same loader.
+     */
+    public Person withId(long id) {
+        if (id == this.id) {
+            return this;
+        }
+        Person copy;
+        PersistentList<Note> loadedNotes = notes;
+        if (loadedNotes != null) {
+            copy = new Person(this, id, loadedNotes, null);
+        } else {
+            synchronized (this) {
+                // The notes may have been loaded since they were read
+                copy = new Person(this, id, notes, notesLoader);
+            }
+        }
+        // The ID is not hashed, so the copy has the same hash
+        copy.hash = hash;
+        return copy;
     }
 
     public Name getName() {
@@ -89,8 +176,8 @@ public class Person {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -98,34 +185,59 @@ public class Person {
      * if modification is attempted.
      */
     public List<Note> getNotes() {
-        return Collections.unmodifiableList(notes);
+        return loadedNotes();
+    }
+
+    /**
+     * Returns the loader of the notes of this person if they have not been loaded yet, so that storage can copy the
+     * notes without loading them into this person. Calling the loader returned does not load them into this person.
+     */
+    public Optional<Supplier<List<Note>>> getNotesLoader() {
+        if (notes != null) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            return Optional.ofNullable(notesLoader);
+        }
+    }
+
+    /**
+     * Returns the notes of this person, loading them first if they have not been loaded yet.
+     * Only loading the notes takes the lock of this person, so reading notes that have been loaded never blocks.
+     */
+    private PersistentList<Note> loadedNotes() {
+        PersistentList<Note> loadedNotes = notes;
+        if (loadedNotes != null) {
+            return loadedNotes;
+        }
+        synchronized (this) {
+            if (notes == null) {
+                notes = PersistentList.copyOf(notesLoader.get());
+                notesLoader = null;
+            }
+            return notes;
+        }
     }
 
     /**
      * Returns a new Person with the given note added to the notes list.
      */
     public Person addNote(Note note) {
-        List<Note> updatedNotes = new ArrayList<>(notes);
-        updatedNotes.add(note);
-        return new Person(name, phone, email, address, income, medicalInfo, new HashSet<>(tags), updatedNotes);
+        return new Person(this, id, loadedNotes().plus(note), null);
     }
 
     /**
      * Returns a new Person with the note at the specified index removed from the notes list.
      */
     public Person removeNote(int noteIndex) {
-        List<Note> updatedNotes = new ArrayList<>(notes);
-        updatedNotes.remove(noteIndex);
-        return new Person(name, phone, email, address, income, medicalInfo, new HashSet<>(tags), updatedNotes);
+        return new Person(this, id, loadedNotes().minus(noteIndex), null);
     }
 
     /**
      * Returns a new Person with the note at the specified index replaced with the new note.
      */
     public Person editNote(int noteIndex, Note newNote) {
-        List<Note> updatedNotes = new ArrayList<>(notes);
-        updatedNotes.set(noteIndex, newNote);
-        return new Person(name, phone, email, address, income, medicalInfo, new HashSet<>(tags), updatedNotes);
+        return new Person(this, id, loadedNotes().with(noteIndex, newNote), null);
     }
 
     /**
@@ -145,6 +257,9 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The IDs of the persons are not compared, as an ID only tells where a person is stored.
+     * Persons whose hash codes have both been computed already are told apart by them first, without comparing
+     * their fields.
      */
     @Override
     public boolean equals(Object other) {
@@ -158,6 +273,9 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        if (hash != 0 && otherPerson.hash != 0 && hash != otherPerson.hash) {
+            return false;
+        }
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
@@ -165,13 +283,22 @@ public class Person {
                 && tags.equals(otherPerson.tags)
                 && income.equals(otherPerson.income)
                 && medicalInfo.equals(otherPerson.medicalInfo)
-                && notes.equals(otherPerson.notes);
+                && loadedNotes().equals(otherPerson.loadedNotes());
     }
 
+    /**
+     * Returns the hash code of this person, which is computed from every field but the ID the first time it is
+     * needed and cached, as the fields never change.
+     */
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, income, medicalInfo, tags, notes);
+        int h = hash;
+        if (h == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            h = Objects.hash(name, phone, email, address, income, medicalInfo, tags, loadedNotes());
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -184,7 +311,7 @@ public class Person {
                 .add("income", income)
                 .add("medicalInfo", medicalInfo)
                 .add("tags", tags)
-                .add("notes", notes)
+                .add("notes", loadedNotes())
                 .toString();
     }
 
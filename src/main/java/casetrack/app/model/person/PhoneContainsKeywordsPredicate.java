@@ -15,6 +15,10 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
@@ -38,6 +42,11 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherPhoneContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
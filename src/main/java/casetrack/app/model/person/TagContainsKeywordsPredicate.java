@@ -1,9 +1,12 @@
 package casetrack.app.model.person;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
 import casetrack.app.commons.util.ToStringBuilder;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.model.tag.TagRegistry;
 
 /**
  * Tests that a {@code Person}'s {@code Tag}s match any of the keywords given.
@@ -11,15 +14,43 @@ import casetrack.app.commons.util.ToStringBuilder;
 public class TagContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
 
+    // Found again when more tags have been interned since, and may be replaced by any thread testing a person
+    private volatile MatchingTags matchingTags;
+
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Tests the ordinals of the tags of {@code person} against the ordinals of the interned tags that match a
+     * keyword, instead of matching every tag of every person with the keywords.
+     */
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getTags().stream()
-                        .anyMatch(tag -> tag.tagName.toLowerCase().contains(keyword.toLowerCase())));
+        return person.getTags().intersects(getMatchingOrdinals());
+    }
+
+    /**
+     * Returns the ordinals of the interned tags that match any of the keywords, which are only found again when a
+     * new tag has been interned since they were last found. The returned set must not be modified.
+     */
+    public BitSet getMatchingOrdinals() {
+        MatchingTags matching = matchingTags;
+        if (matching == null || matching.internedTagCount != TagRegistry.size()) {
+            // Tags interned while the ordinals are found are found too, or are found the next time
+            int internedTagCount = TagRegistry.size();
+            matching = new MatchingTags(internedTagCount, TagRegistry.findOrdinals(this::matches));
+            matchingTags = matching;
+        }
+        return matching.ordinals;
+    }
+
+    private boolean matches(Tag tag) {
+        return keywords.stream().anyMatch(keyword -> tag.tagName.toLowerCase().contains(keyword.toLowerCase()));
     }
 
     @Override
@@ -37,8 +68,26 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherTagContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
+
+    /**
+     * The ordinals of the tags that match a keyword among the first {@code internedTagCount} tags interned.
+     */
+    private static class MatchingTags {
+        private final int internedTagCount;
+        private final BitSet ordinals;
+
+        MatchingTags(int internedTagCount, BitSet ordinals) {
+            this.internedTagCount = internedTagCount;
+            this.ordinals = ordinals;
+        }
+    }
 }
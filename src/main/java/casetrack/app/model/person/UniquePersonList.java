@@ -3,8 +3,13 @@ package casetrack.app.model.person;
 import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import casetrack.app.model.person.exceptions.DuplicatePersonException;
 import casetrack.app.model.person.exceptions.PersonNotFoundException;
@@ -18,6 +23,8 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are indexed by identity and by position, so that lookups and updates do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,12 +35,33 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // All indexes must be updated together with internalList
+    private final Map<Identity, Person> personsByIdentity = new HashMap<>();
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+    // Persons without an ID are not in this index
+    private final Map<Long, Person> personsById = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByIdentity.containsKey(new Identity(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name} and {@code phone}, if any.
+     */
+    public Optional<Person> get(Name name, Phone phone) {
+        requireAllNonNull(name, phone);
+        return Optional.ofNullable(personsByIdentity.get(new Identity(name, phone)));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> get(long id) {
+        return Optional.ofNullable(personsById.get(id));
     }
 
     /**
@@ -45,6 +73,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd, internalList.size());
+        personsByIdentity.put(new Identity(toAdd), toAdd);
+        putId(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,15 +87,17 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
+        Person storedTarget = getStoredPerson(target);
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        int index = positions.remove(storedTarget);
+        personsByIdentity.remove(new Identity(storedTarget));
+        personsById.remove(storedTarget.getId());
+        positions.put(editedPerson, index);
+        personsByIdentity.put(new Identity(editedPerson), editedPerson);
+        putId(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +107,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        Person storedPerson = getStoredPerson(toRemove);
+
+        int index = positions.remove(storedPerson);
+        personsByIdentity.remove(new Identity(storedPerson));
+        personsById.remove(storedPerson.getId());
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i - 1);
         }
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByIdentity.clear();
+        personsByIdentity.putAll(replacement.personsByIdentity);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +135,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Identity, Person> newPersonsByIdentity = indexByIdentity(persons);
+        if (newPersonsByIdentity == null) {
             throw new DuplicatePersonException();
         }
 
+        personsByIdentity.clear();
+        personsByIdentity.putAll(newPersonsByIdentity);
+        positions.clear();
+        personsById.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+            putId(persons.get(i));
+        }
         internalList.setAll(persons);
     }
 
@@ -134,17 +188,75 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void putId(Person person) {
+        if (person.getId() != Person.NO_ID) {
+            personsById.put(person.getId(), person);
+        }
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person in the list that is equal to {@code person}.
+     * Persons are only compared field by field if {@code person} is not itself in the list.
+     *
+     * @throws PersonNotFoundException if there is no such person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private Person getStoredPerson(Person person) {
+        Person storedPerson = person.getId() != Person.NO_ID && personsById.get(person.getId()) == person
+                ? person
+                : personsByIdentity.get(new Identity(person));
+        if (storedPerson == null || !storedPerson.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return storedPerson;
+    }
+
+    /**
+     * Returns {@code persons} indexed by identity, or null if {@code persons} contains duplicate persons.
+     */
+    private static Map<Identity, Person> indexByIdentity(List<Person> persons) {
+        Map<Identity, Person> personsByIdentity = new HashMap<>();
+        for (Person person : persons) {
+            if (personsByIdentity.putIfAbsent(new Identity(person), person) != null) {
+                return null;
+            }
+        }
+        return personsByIdentity;
+    }
+
+    /**
+     * The fields that {@link Person#isSamePerson(Person)} compares, used as a hash key.
+     */
+    private static class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        Identity(Person person) {
+            this(person.getName(), person.getPhone());
+        }
+
+        Identity(Name name, Phone phone) {
+            this.name = name;
+            this.phone = phone;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
             }
+
+            // instanceof handles nulls
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return name.equals(otherIdentity.name) && phone.equals(otherIdentity.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone);
         }
-        return true;
     }
 }
@@ -6,23 +6,40 @@ import static java.util.Objects.requireNonNull;
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags with the same name are equal whether or not they were interned by {@link TagRegistry}, but only interned
+ * tags have an ordinal.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric and may contain hyphens";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}-]+";
 
+    /** The ordinal of a tag that has not been interned. */
+    static final int NO_ORDINAL = -1;
+
     public final String tagName;
 
+    // Assigned by TagRegistry to the one interned tag with this name
+    private final int ordinal;
+
     /**
      * Constructs a {@code Tag}.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, NO_ORDINAL);
+    }
+
+    /**
+     * Constructs a {@code Tag} with the given {@code ordinal}, for {@link TagRegistry} to intern.
+     */
+    Tag(String tagName, int ordinal) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.ordinal = ordinal;
     }
 
     /**
@@ -32,6 +49,13 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the ordinal given to this tag by {@link TagRegistry}, or {@link #NO_ORDINAL} if it was not interned.
+     */
+    int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,118 @@
+package casetrack.app.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Interns tags, so that all persons with a tag share one {@code Tag} instance for it, whose name is validated only
+ * the first time the tag is seen.
+ *
+ * Each interned tag is given an ordinal, the number of tags interned before it, so that a set of tags can be stored
+ * as a set of small integers (see {@link TagSet}). Tags are never removed from the registry, as there are only a few
+ * dozen distinct tags however many persons have them, so an ordinal always refers to the same tag.
+ *
+ * The registry is safe to use from several threads at once.
+ */
+public final class TagRegistry {
+
+    private static final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+    // Appended to only while holding the lock of TagRegistry, so the index of each tag is its ordinal
+    private static final List<Tag> tagsByOrdinal = new CopyOnWriteArrayList<>();
+
+    private TagRegistry() {}
+
+    /**
+     * Returns the interned tag named {@code tagName}, interning a new tag if there is none.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag intern(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = tagsByName.get(tagName);
+        return tag != null ? tag : register(tagName);
+    }
+
+    /**
+     * Returns the interned tag equal to {@code tag}, which is {@code tag} itself if it was interned.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        return tag.getOrdinal() != Tag.NO_ORDINAL ? tag : intern(tag.tagName);
+    }
+
+    /**
+     * Returns true if a tag named {@code tagName} has been interned, in which case {@code tagName} is known to be a
+     * valid tag name.
+     */
+    public static boolean isInterned(String tagName) {
+        requireNonNull(tagName);
+        return tagsByName.containsKey(tagName);
+    }
+
+    /**
+     * Returns the number of tags interned so far, which is larger than the ordinal of every interned tag.
+     */
+    public static int size() {
+        return tagsByOrdinal.size();
+    }
+
+    /**
+     * Returns the ordinals of the interned tags that match {@code predicate}.
+     */
+    public static BitSet findOrdinals(Predicate<Tag> predicate) {
+        requireNonNull(predicate);
+        BitSet ordinals = new BitSet();
+        for (Tag tag : tagsByOrdinal) {
+            if (predicate.test(tag)) {
+                ordinals.set(tag.getOrdinal());
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * Returns the interned tags, in the order of their ordinals.
+     */
+    public static List<Tag> getTags() {
+        return Collections.unmodifiableList(tagsByOrdinal);
+    }
+
+    /**
+     * Returns the ordinal of the interned tag equal to {@code tag}, or a negative number if there is none.
+     */
+    public static int ordinalOf(Tag tag) {
+        requireNonNull(tag);
+        if (tag.getOrdinal() != Tag.NO_ORDINAL) {
+            return tag.getOrdinal();
+        }
+        Tag internedTag = tagsByName.get(tag.tagName);
+        return internedTag == null ? Tag.NO_ORDINAL : internedTag.getOrdinal();
+    }
+
+    /**
+     * Returns the interned tag with the given {@code ordinal}.
+     *
+     * @throws IndexOutOfBoundsException if no tag has been interned with the given {@code ordinal}.
+     */
+    public static Tag get(int ordinal) {
+        return tagsByOrdinal.get(ordinal);
+    }
+
+    private static synchronized Tag register(String tagName) {
+        // Another thread may have interned the tag since it was looked up
+        Tag tag = tagsByName.get(tagName);
+        if (tag == null) {
+            tag = new Tag(tagName, tagsByOrdinal.size());
+            tagsByOrdinal.add(tag);
+            tagsByName.put(tagName, tag);
+        }
+        return tag;
+    }
+}
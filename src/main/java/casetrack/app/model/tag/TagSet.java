@@ -0,0 +1,173 @@
+package casetrack.app.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as the sorted ordinals given to the tags by {@link TagRegistry} rather than as a
+ * hash table of {@code Tag}s, so that a person with a few tags only needs a small array for them.
+ *
+ * The tags are iterated over in the order of their ordinals, which is the order in which they were first interned.
+ * Like the sets returned by {@link java.util.Set#of}, the set throws {@code UnsupportedOperationException} if
+ * modification is attempted, and does not allow null elements.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new int[0]);
+
+    // Sorted and distinct
+    private final int[] ordinals;
+
+    private TagSet(int[] ordinals) {
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * Returns an empty set.
+     */
+    public static TagSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set of the tags in {@code tags}, interning any that have not been interned, or {@code tags} itself if
+     * it is already a {@code TagSet}.
+     */
+    public static TagSet copyOf(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] ordinals = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            ordinals[count++] = TagRegistry.intern(tag).getOrdinal();
+        }
+        Arrays.sort(ordinals);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || ordinals[i] != ordinals[distinctCount - 1]) {
+                ordinals[distinctCount++] = ordinals[i];
+            }
+        }
+        return new TagSet(distinctCount == ordinals.length ? ordinals : Arrays.copyOf(ordinals, distinctCount));
+    }
+
+    /**
+     * Calls {@code action} with the ordinal of each tag in this set, in increasing order.
+     */
+    public void forEachOrdinal(IntConsumer action) {
+        requireNonNull(action);
+        for (int ordinal : ordinals) {
+            action.accept(ordinal);
+        }
+    }
+
+    /**
+     * Returns true if the ordinal of any tag in this set is in {@code ordinals}.
+     */
+    public boolean intersects(BitSet ordinals) {
+        requireNonNull(ordinals);
+        for (int ordinal : this.ordinals) {
+            if (ordinals.get(ordinal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Tag)) {
+            return false;
+        }
+        int ordinal = TagRegistry.ordinalOf((Tag) o);
+        return ordinal != Tag.NO_ORDINAL && Arrays.binarySearch(ordinals, ordinal) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return ordinals.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < ordinals.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (index == ordinals.length) {
+                    throw new NoSuchElementException();
+                }
+                return TagRegistry.get(ordinals[index++]);
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return Arrays.equals(ordinals, ((TagSet) other).ordinals);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Must be the sum of the hash codes of the tags, as for every other set
+        return super.hashCode();
+    }
+}
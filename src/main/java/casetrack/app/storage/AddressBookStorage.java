@@ -2,9 +2,11 @@ package casetrack.app.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.model.AddressBookChange;
 import casetrack.app.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +44,18 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the {@code changes} made to {@code addressBook} since it was last saved.
+     * @param addressBook the address book with all of {@code changes} applied. Cannot be null.
+     * @param changes the changes, in the order they were made. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException;
+
+    /**
+     * Returns {@code addressBook} with the changes saved since the data file was last saved in full applied to it.
+     * @param addressBook the address book most recently read from the data file. Cannot be null.
+     */
+    ReadOnlyAddressBook replayAddressBookChanges(ReadOnlyAddressBook addressBook);
+
 }
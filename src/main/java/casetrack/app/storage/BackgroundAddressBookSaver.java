@@ -0,0 +1,127 @@
+package casetrack.app.storage;
+
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Saves address book changes to an {@code AddressBookStorage} on a single background thread.
+ * Changes submitted while a save is in progress are combined into one save of the latest address book.
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private ReadOnlyAddressBook pendingAddressBook;
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    private boolean isSaveScheduled = false;
+    private Consumer<IOException> failureHandler = ioe -> { };
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that saves to {@code addressBookStorage}.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Sets the handler that is notified, on the background thread, when a save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code changes} made to {@code addressBook} to be saved.
+     * The persons in {@code addressBook} are copied before returning, so later changes to it are not saved
+     * until they are submitted as well.
+     */
+    public void submit(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+        requireAllNonNull(addressBook, changes);
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook.getPersonList());
+
+        synchronized (lock) {
+            pendingAddressBook = snapshot;
+            pendingChanges.addAll(changes);
+            if (isSaveScheduled) {
+                return;
+            }
+            isSaveScheduled = true;
+        }
+        executor.execute(this::savePending);
+    }
+
+    /**
+     * Blocks until all changes submitted so far have been saved or have failed to save.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for address book to be saved.");
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Empty task cannot fail.", ee);
+        }
+    }
+
+    private void savePending() {
+        ReadOnlyAddressBook addressBook;
+        List<AddressBookChange> changes;
+        synchronized (lock) {
+            addressBook = pendingAddressBook;
+            changes = new ArrayList<>(pendingChanges);
+            pendingAddressBook = null;
+            pendingChanges.clear();
+            isSaveScheduled = false;
+        }
+
+        try {
+            addressBookStorage.saveAddressBookChanges(addressBook, changes);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book in the background: " + ioe.getMessage());
+            failureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the persons in an address book at the time it was submitted.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        AddressBookSnapshot(List<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
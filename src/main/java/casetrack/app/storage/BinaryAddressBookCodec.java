@@ -0,0 +1,331 @@
+package casetrack.app.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Converts an address book to and from the binary snapshot format.
+ *
+ * A snapshot starts with {@link #MAGIC} and the format version, followed by a table of all distinct tag names
+ * and then the persons. Each person is stored as its ID followed by the same strings that {@link JsonAdaptedPerson}
+ * stores, with its tags stored as indexes into the tag table. Strings are stored as a varint byte length followed by
+ * their UTF-8 bytes, and IDs and all counts are stored as varints. Snapshots of version 1, written before persons had
+ * IDs, store no IDs, and the persons read from them are given IDs by the address book.
+ *
+ * Persons read from a snapshot are validated by {@link JsonAdaptedPerson#toModelType()}, so converting between
+ * json and binary snapshots never loses or changes any data. Notes read lazily that have not been loaded when the
+ * persons are written again are copied from the snapshot they were read from without being loaded.
+ */
+class BinaryAddressBookCodec {
+
+    public static final byte[] MAGIC = {'C', 'T', 'A', 'B'};
+    public static final int VERSION = 2;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a binary address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %d is not supported.";
+    public static final String MESSAGE_TRUNCATED = "Binary snapshot ends unexpectedly.";
+    public static final String MESSAGE_INVALID_TAG_INDEX = "Binary snapshot refers to a tag that does not exist.";
+
+    private static final int VERSION_WITHOUT_IDS = 1;
+
+    /**
+     * Writes {@code addressBook} to {@code out} as a binary snapshot.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size());
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        writeVarint(data, VERSION);
+
+        writeVarint(data, tagIndexes.size());
+        for (String tagName : tagIndexes.keySet()) {
+            writeString(data, tagName);
+        }
+
+        writeVarint(data, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writeVarint(data, person.getId());
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            writeString(data, person.getIncome().toPlainString());
+            writeString(data, person.getMedicalInfo().toString());
+
+            writeVarint(data, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarint(data, tagIndexes.get(tag.tagName));
+            }
+
+            Optional<Supplier<List<Note>>> notesLoader = person.getNotesLoader();
+            if (notesLoader.isPresent() && notesLoader.get() instanceof MappedNotes) {
+                // Copied as they are stored, so that notes not loaded yet are not loaded into the person
+                MappedNotes notes = (MappedNotes) notesLoader.get();
+                notes.copyTo(data);
+            } else {
+                writeVarint(data, person.getNotes().size());
+                for (Note note : person.getNotes()) {
+                    writeString(data, note.value);
+                }
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads the binary snapshot in {@code buffer}, from its current position, into the model's {@code AddressBook}.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a valid snapshot, or if there were any data
+     *     constraints violated.
+     */
+    public static AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        return read(buffer, false);
+    }
+
+    private static AddressBook read(ByteBuffer buffer, boolean isLazy) throws IllegalValueException {
+        try {
+            boolean hasIds = readHeader(buffer) != VERSION_WITHOUT_IDS;
+
+            int tagCount = readVarint(buffer);
+            List<JsonAdaptedTag> tagTable = new ArrayList<>();
+            for (int i = 0; i < tagCount; i++) {
+                tagTable.add(new JsonAdaptedTag(readString(buffer)));
+            }
+
+            int personCount = readVarint(buffer);
+            AddressBook addressBook = new AddressBook();
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson(buffer, tagTable, hasIds, isLazy);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED, bue);
+        }
+    }
+
+    /**
+     * Similar to {@link #read(ByteBuffer)}, but the notes of each person are only read from {@code buffer} when
+     * they are first needed. The contents of {@code buffer} must not change while the persons read are in use.
+     */
+    public static AddressBook readLazily(ByteBuffer buffer) throws IllegalValueException {
+        return read(buffer, true);
+    }
+
+    /**
+     * Returns true if {@code buffer}, from its current position, starts with {@link #MAGIC}.
+     * The position of {@code buffer} is not changed.
+     */
+    public static boolean hasMagic(ByteBuffer buffer) {
+        if (buffer.remaining() < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(buffer.position() + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the header of the snapshot in {@code buffer} and returns its format version.
+     */
+    private static int readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (!hasMagic(buffer)) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        buffer.position(buffer.position() + MAGIC.length);
+
+        int version = readVarint(buffer);
+        if (version != VERSION && version != VERSION_WITHOUT_IDS) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return version;
+    }
+
+    private static Person readPerson(ByteBuffer buffer, List<JsonAdaptedTag> tagTable, boolean hasIds,
+            boolean isLazy) throws IllegalValueException {
+        // An ID of 0 is written for a person without an ID, which is read as having none
+        Long id = hasIds ? readVarlong(buffer) : null;
+        if (id != null && id == Person.NO_ID) {
+            id = null;
+        }
+        String name = readString(buffer);
+        String phone = readString(buffer);
+        String email = readString(buffer);
+        String address = readString(buffer);
+        String income = readString(buffer);
+        String medicalInfo = readString(buffer);
+
+        int tagCount = readVarint(buffer);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = readVarint(buffer);
+            if (tagIndex >= tagTable.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_TAG_INDEX);
+            }
+            tags.add(tagTable.get(tagIndex));
+        }
+
+        if (!isLazy) {
+            int noteCount = readVarint(buffer);
+            List<String> notes = new ArrayList<>();
+            for (int i = 0; i < noteCount; i++) {
+                notes.add(readString(buffer));
+            }
+            return new JsonAdaptedPerson(id, name, phone, email, address, income, medicalInfo, tags, notes)
+                    .toModelType();
+        }
+
+        int notesOffset = buffer.position();
+        skipNotes(buffer);
+        MappedNotes notes = new MappedNotes(buffer, notesOffset, buffer.position());
+        Person person = new JsonAdaptedPerson(id, name, phone, email, address, income, medicalInfo, tags, List.of())
+                .toModelType();
+        Person lazyPerson = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getIncome(), person.getMedicalInfo(), person.getTags(), notes);
+        return lazyPerson.withId(person.getId());
+    }
+
+    private static void skipNotes(ByteBuffer buffer) throws IllegalValueException {
+        int noteCount = readVarint(buffer);
+        for (int i = 0; i < noteCount; i++) {
+            int length = readVarint(buffer);
+            if (length > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    /**
+     * Returns the notes stored at {@code offset} in {@code buffer}, without changing the position of {@code buffer}.
+     */
+    private static List<Note> readNotes(ByteBuffer buffer, int offset) {
+        ByteBuffer notesBuffer = buffer.duplicate();
+        notesBuffer.position(offset);
+        try {
+            int noteCount = readVarint(notesBuffer);
+            List<Note> notes = new ArrayList<>();
+            for (int i = 0; i < noteCount; i++) {
+                String note = readString(notesBuffer);
+                if (!Note.isValidNote(note)) {
+                    throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+                }
+                notes.add(new Note(note));
+            }
+            return notes;
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException("Notes in binary snapshot cannot be read: " + ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Loads the notes of a person read lazily from the bytes between {@code offset} and {@code end} in a snapshot.
+     */
+    private static class MappedNotes implements Supplier<List<Note>> {
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int end;
+
+        private MappedNotes(ByteBuffer buffer, int offset, int end) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.end = end;
+        }
+
+        @Override
+        public List<Note> get() {
+            return readNotes(buffer, offset);
+        }
+
+        /**
+         * Writes the notes to {@code data} in the format they are stored in, without reading them.
+         */
+        private void copyTo(DataOutputStream data) throws IOException {
+            byte[] bytes = new byte[end - offset];
+            buffer.get(offset, bytes);
+            data.write(bytes);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = readVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in 7-bit groups, least significant group first, with the high bit of
+     * each byte set if more groups follow.
+     */
+    private static void writeVarint(DataOutputStream data, long value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) throws IllegalValueException {
+        long value = readVarlong(buffer);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        return (int) value;
+    }
+
+    private static long readVarlong(ByteBuffer buffer) throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+    }
+
+}
@@ -0,0 +1,106 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ * Binary snapshots are smaller and faster to read than json files, and hold exactly the same data.
+ *
+ * If lazy loading is enabled, the snapshot is memory-mapped instead of being read into memory, and the notes of each
+ * person are only read from the mapped file when they are first needed. The file mapped is a temporary copy of the
+ * snapshot rather than the snapshot itself, since some systems do not allow a mapped file to be replaced, and the
+ * copy never changes while persons read notes from it. Saving does not map the new snapshot, so persons whose notes
+ * are not loaded keep reading them from the copy, which is deleted when the application exits.
+ */
+public class BinaryAddressBookStorage extends JournaledAddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final boolean isLazyLoadEnabled;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that stores data in the file at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that stores data in the file at {@code filePath}.
+     *
+     * @param isLazyLoadEnabled whether the notes of persons read from the file are only read when first needed.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isLazyLoadEnabled) {
+        super(filePath);
+        this.isLazyLoadEnabled = isLazyLoadEnabled;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept in place of the data file at {@code filePath},
+     * which is {@code filePath} with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path toBinaryFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    protected ReadOnlyAddressBook readSnapshot(Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            if (!isLazyLoadEnabled) {
+                return BinaryAddressBookCodec.read(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+            }
+            try (FileChannel channel = FileChannel.open(copyForMapping(filePath), StandardOpenOption.READ)) {
+                // The mapping stays valid after the channel is closed
+                return BinaryAddressBookCodec.readLazily(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Copies the snapshot at {@code filePath} to a new temporary file, which is deleted when the application exits,
+     * and returns the path of the copy.
+     */
+    private static Path copyForMapping(Path filePath) throws IOException {
+        Path copyPath = Files.createTempFile("addressbook", FILE_EXTENSION);
+        copyPath.toFile().deleteOnExit();
+        Files.copy(filePath, copyPath, StandardCopyOption.REPLACE_EXISTING);
+        return copyPath;
+    }
+
+    @Override
+    protected void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        // Notes not loaded yet are copied from the mapped copy of the snapshot read, which is not the file replaced
+        FileUtil.writeToFile(filePath, out -> BinaryAddressBookCodec.write(addressBook, out));
+    }
+
+}
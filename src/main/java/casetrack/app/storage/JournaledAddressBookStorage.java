@@ -0,0 +1,145 @@
+package casetrack.app.storage;
+
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file on the hard disk.
+ * Changes made after the snapshot is saved are appended to a journal next to the file, and the journal is compacted
+ * into a new snapshot once it grows past {@link #JOURNAL_COMPACTION_THRESHOLD} changes.
+ * Subclasses define the format of the snapshot file.
+ */
+public abstract class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private Path filePath;
+    private final JsonAddressBookJournal journal;
+
+    /** True if the snapshot file and the journal together hold the most recently saved address book. */
+    private boolean canAppendToJournal = false;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that stores its snapshot in the file at {@code filePath}.
+     */
+    protected JournaledAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.journal = new JsonAddressBookJournal(filePath);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(readSnapshot(filePath));
+    }
+
+    /**
+     * Reads the address book stored in the snapshot file at {@code filePath}, which exists.
+     *
+     * @throws DataLoadingException if the file could not be read or holds an invalid address book.
+     */
+    protected abstract ReadOnlyAddressBook readSnapshot(Path filePath) throws DataLoadingException;
+
+    @Override
+    public ReadOnlyAddressBook replayAddressBookChanges(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        AddressBook replayedAddressBook = new AddressBook(addressBook);
+        try {
+            canAppendToJournal = journal.replay(replayedAddressBook);
+        } catch (IOException ioe) {
+            logger.warning("Could not read journal " + journal.getFilePath() + ": " + ioe.getMessage());
+            canAppendToJournal = false;
+        }
+        return replayedAddressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        writeSnapshot(addressBook, filePath);
+
+        if (filePath.equals(this.filePath)) {
+            journal.clear();
+            canAppendToJournal = true;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the snapshot file at {@code filePath}, which exists, replacing its contents.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    protected abstract void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Appends {@code changes} to the journal, or saves the whole address book if the journal cannot be used
+     * or has grown too large.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+
+        boolean hasReset = changes.stream().anyMatch(change -> change.getType() == AddressBookChange.Type.RESET);
+        try {
+            if (!canAppendToJournal || hasReset
+                    || journal.getEntryCount() + changes.size() > JOURNAL_COMPACTION_THRESHOLD) {
+                saveAddressBook(addressBook);
+            } else {
+                journal.append(changes);
+            }
+        } catch (IOException ioe) {
+            // Changes that failed to save are not kept anywhere else, so the next save has to rewrite the whole file
+            canAppendToJournal = false;
+            throw ioe;
+        }
+    }
+
+}
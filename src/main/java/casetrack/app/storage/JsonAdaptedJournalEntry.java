@@ -0,0 +1,230 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.person.Name;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.Phone;
+
+/**
+ * Jackson-friendly version of a single {@link AddressBookChange} recorded in the address book journal.
+ * Note changes are recorded on their own so that adding a note does not record every other note of the person.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "Journal entry refers to a person that does not exist.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal entry adds a duplicate person.";
+    public static final String MESSAGE_INVALID_NOTE_INDEX = "Journal entry refers to a note that does not exist.";
+
+    /**
+     * Types of entries that can be recorded in the journal.
+     */
+    enum Type {
+        ADD_PERSON, EDIT_PERSON, DELETE_PERSON, ADD_NOTE, EDIT_NOTE, DELETE_NOTE
+    }
+
+    private final Type type;
+
+    // ID of the person that the entry applies to, for all entries except ADD_PERSON
+    private final Long id;
+    // Identity of the person that the entry applies to, recorded instead of its ID in journals written before
+    // persons had IDs
+    private final String name;
+    private final String phone;
+
+    private final JsonAdaptedPerson person;
+    private final Integer noteIndex;
+    private final String note;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") Type type, @JsonProperty("id") Long id,
+            @JsonProperty("name") String name, @JsonProperty("phone") String phone,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("noteIndex") Integer noteIndex, @JsonProperty("note") String note) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.phone = phone;
+        this.person = person;
+        this.noteIndex = noteIndex;
+        this.note = note;
+    }
+
+    /**
+     * Constructs an entry of the given {@code type} that applies to {@code target}, which is recorded by its ID, or
+     * by its name and phone if it has no ID.
+     */
+    private JsonAdaptedJournalEntry(Type type, Person target, Person person, Integer noteIndex, Note note) {
+        this(type,
+                hasId(target) ? target.getId() : null,
+                target == null || hasId(target) ? null : target.getName().fullName,
+                target == null || hasId(target) ? null : target.getPhone().value,
+                person == null ? null : new JsonAdaptedPerson(person),
+                noteIndex,
+                note == null ? null : note.value);
+    }
+
+    private static boolean hasId(Person person) {
+        return person != null && person.getId() != Person.NO_ID;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     * A change made by a note operation is recorded as that operation, so only the note changed is recorded.
+     * {@code change} must not be a {@code RESET}, which can only be persisted by saving the whole address book.
+     */
+    public static JsonAdaptedJournalEntry fromChange(AddressBookChange change) {
+        requireNonNull(change);
+        switch (change.getType()) {
+        case ADD:
+            return new JsonAdaptedJournalEntry(Type.ADD_PERSON, null, change.getEditedPerson(), null, null);
+        case DELETE:
+            return new JsonAdaptedJournalEntry(Type.DELETE_PERSON, change.getTarget(), null, null, null);
+        case SET:
+            return change.getNoteOperation().isPresent()
+                    ? fromNoteChange(change)
+                    : new JsonAdaptedJournalEntry(Type.EDIT_PERSON, change.getTarget(), change.getEditedPerson(),
+                            null, null);
+        default:
+            throw new IllegalArgumentException("Change cannot be journaled: " + change.getType());
+        }
+    }
+
+    /**
+     * Returns the entry for {@code change}, which was made by adding, editing or deleting a single note.
+     */
+    private static JsonAdaptedJournalEntry fromNoteChange(AddressBookChange change) {
+        Person target = change.getTarget();
+        int noteIndex = change.getNoteIndex();
+        switch (change.getNoteOperation().get()) {
+        case ADD:
+            return new JsonAdaptedJournalEntry(Type.ADD_NOTE, target, null, null,
+                    change.getEditedPerson().getNotes().get(noteIndex));
+        case EDIT:
+            return new JsonAdaptedJournalEntry(Type.EDIT_NOTE, target, null, noteIndex,
+                    change.getEditedPerson().getNotes().get(noteIndex));
+        case DELETE:
+            return new JsonAdaptedJournalEntry(Type.DELETE_NOTE, target, null, noteIndex, null);
+        default:
+            throw new AssertionError("Unknown note operation: " + change.getNoteOperation().get());
+        }
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the entry is malformed or cannot be applied to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        requireNonNull(addressBook);
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        if (type == Type.ADD_PERSON) {
+            Person personToAdd = getPerson();
+            if (addressBook.hasPerson(personToAdd)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(personToAdd);
+            return;
+        }
+
+        Person target = findTarget(addressBook);
+        switch (type) {
+        case EDIT_PERSON:
+            Person editedPerson = getPerson();
+            if (!target.isSamePerson(editedPerson) && addressBook.hasPerson(editedPerson)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.setPerson(target, editedPerson);
+            break;
+        case DELETE_PERSON:
+            addressBook.removePerson(target);
+            break;
+        case ADD_NOTE:
+            addressBook.setPerson(target, target.addNote(getNote()));
+            break;
+        case EDIT_NOTE:
+            addressBook.setPerson(target, target.editNote(getNoteIndex(target), getNote()));
+            break;
+        case DELETE_NOTE:
+            addressBook.setPerson(target, target.removeNote(getNoteIndex(target)));
+            break;
+        default:
+            throw new AssertionError("Unknown journal entry type: " + type);
+        }
+    }
+
+    private Person getPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private Note getNote() throws IllegalValueException {
+        if (note == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Note.class.getSimpleName()));
+        }
+        if (!Note.isValidNote(note)) {
+            throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+        }
+        return new Note(note);
+    }
+
+    private int getNoteIndex(Person target) throws IllegalValueException {
+        if (noteIndex == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "noteIndex"));
+        }
+        if (noteIndex < 0 || noteIndex >= target.getNotes().size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_NOTE_INDEX);
+        }
+        return noteIndex;
+    }
+
+    /**
+     * Returns the person in {@code addressBook} with the ID recorded in this entry, or with the identity recorded in
+     * this entry if it has no ID.
+     */
+    private Person findTarget(AddressBook addressBook) throws IllegalValueException {
+        if (id != null) {
+            if (id <= Person.NO_ID) {
+                throw new IllegalValueException(JsonAdaptedPerson.MESSAGE_INVALID_ID);
+            }
+            return addressBook.getPerson(id)
+                    .orElseThrow(() -> new IllegalValueException(MESSAGE_PERSON_NOT_FOUND));
+        }
+
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (phone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+
+        return addressBook.getPerson(new Name(name), new Phone(phone))
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_PERSON_NOT_FOUND));
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import casetrack.app.commons.exceptions.IllegalValueException;
@@ -26,7 +27,11 @@ import casetrack.app.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Person's ID must be a positive number.";
 
+    // Absent from files saved before persons had IDs, in which case the address book assigns one
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -36,16 +41,25 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final List<String> notes = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no ID.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String income,
+            String medicalInfo, List<JsonAdaptedTag> tags, List<String> notes) {
+        this(null, name, phone, email, address, income, medicalInfo, tags, notes);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
             @JsonProperty("phone") String phone, @JsonProperty("email") String email,
             @JsonProperty("address") String address, @JsonProperty("income") String income,
             @JsonProperty("medicalInfo") String medicalInfo,
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
             @JsonProperty("notes") List<String> notes) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -64,6 +78,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId() == Person.NO_ID ? null : source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -85,6 +100,10 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (id != null && id <= Person.NO_ID) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -150,8 +169,9 @@ class JsonAdaptedPerson {
         final MedicalInfo modelMedicalInfo = new MedicalInfo(medicalInfoValue);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelIncome,
+        final Person person = new Person(modelName, modelPhone, modelEmail, modelAddress, modelIncome,
                 modelMedicalInfo, modelTags, personNotes);
+        return id == null ? person : person.withId(id);
     }
 
 }
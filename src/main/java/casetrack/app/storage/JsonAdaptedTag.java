@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import casetrack.app.commons.exceptions.IllegalValueException;
 import casetrack.app.model.tag.Tag;
+import casetrack.app.model.tag.TagRegistry;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -39,10 +40,11 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        // A tag that has been interned is known to be valid, so its name is not checked again
+        if (!TagRegistry.isInterned(tagName) && !Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return TagRegistry.intern(tagName);
     }
 
 }
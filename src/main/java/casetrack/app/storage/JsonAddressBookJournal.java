@@ -0,0 +1,147 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+
+/**
+ * An append-only journal of the changes made to an address book since its data file was last saved in full.
+ * Each change is stored as a single line of json, after a header line that identifies the version of the data file
+ * that the changes apply to. A journal that does not match its data file is ignored.
+ */
+class JsonAddressBookJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookJournal.class);
+    private static final String HEADER_FORMAT = "snapshot %d %d";
+
+    private final Path dataFilePath;
+    private final Path filePath;
+    private int entryCount;
+
+    /**
+     * Creates a {@code JsonAddressBookJournal} for the data file at {@code dataFilePath}.
+     */
+    public JsonAddressBookJournal(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        this.dataFilePath = dataFilePath;
+        this.filePath = dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of changes recorded in the journal.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Appends {@code changes} to the end of the journal.
+     * None of the {@code changes} may be a {@code RESET}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void append(List<AddressBookChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(filePath)) {
+            lines.append(getHeader()).append(System.lineSeparator());
+        }
+        for (AddressBookChange change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.fromChange(change)))
+                    .append(System.lineSeparator());
+        }
+
+        FileUtil.appendToFile(filePath, lines.toString());
+        entryCount += changes.size();
+    }
+
+    /**
+     * Applies the changes recorded in the journal to {@code addressBook}, in the order they were made.
+     * Replaying stops at the first change that cannot be read or applied, such as one that was only partially
+     * written when the application stopped.
+     *
+     * @return true if every change in the journal was applied.
+     * @throws IOException if there was any problem reading from the file.
+     */
+    public boolean replay(AddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        entryCount = 0;
+        if (!Files.exists(filePath)) {
+            return true;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return true;
+            }
+            if (!header.equals(getHeader())) {
+                logger.warning("Journal " + filePath + " does not match data file " + dataFilePath
+                        + " and will be ignored.");
+                return false;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(addressBook);
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Stopped replaying journal " + filePath + " after " + entryCount
+                            + " change(s): " + e.getMessage());
+                    return false;
+                }
+                entryCount++;
+            }
+        }
+        logger.info("Replayed " + entryCount + " change(s) from journal " + filePath);
+        return true;
+    }
+
+    /**
+     * Removes all changes from the journal.
+     *
+     * @throws IOException if there was any problem deleting the file.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        entryCount = 0;
+    }
+
+    /**
+     * Returns a line that identifies the current version of the data file.
+     */
+    private String getHeader() throws IOException {
+        if (!Files.exists(dataFilePath)) {
+            return String.format(HEADER_FORMAT, -1, -1);
+        }
+        return String.format(HEADER_FORMAT, Files.size(dataFilePath),
+                Files.getLastModifiedTime(dataFilePath).toMillis());
+    }
+
+}
@@ -1,58 +1,70 @@
 package casetrack.app.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import casetrack.app.commons.core.LogsCenter;
 import casetrack.app.commons.exceptions.DataLoadingException;
 import casetrack.app.commons.exceptions.IllegalValueException;
-import casetrack.app.commons.util.FileUtil;
 import casetrack.app.commons.util.JsonUtil;
 import casetrack.app.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read as a stream of tokens, converting each person into the model as soon as it is read.
+ *
+ * If compression is enabled, the file is saved compressed with gzip. Compressed files are detected when read,
+ * so compression can be turned on or off without converting the existing file.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage extends JournaledAddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
-    private Path filePath;
+    private final boolean isParallelLoadEnabled;
+    private final boolean isCompressionEnabled;
 
+    /**
+     * Creates a {@code JsonAddressBookStorage} that stores data in the file at {@code filePath}.
+     */
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getAddressBookFilePath() {
-        return filePath;
+        this(filePath, false);
     }
 
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+    /**
+     * Creates a {@code JsonAddressBookStorage} that stores data in the file at {@code filePath}.
+     *
+     * @param isParallelLoadEnabled whether persons read from the file are converted on multiple threads.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isParallelLoadEnabled) {
+        this(filePath, isParallelLoadEnabled, false);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
+     * Creates a {@code JsonAddressBookStorage} that stores data in the file at {@code filePath}.
      *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @param isParallelLoadEnabled whether persons read from the file are converted on multiple threads.
+     * @param isCompressionEnabled whether the file is saved compressed with gzip.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+    public JsonAddressBookStorage(Path filePath, boolean isParallelLoadEnabled, boolean isCompressionEnabled) {
+        super(filePath);
+        this.isParallelLoadEnabled = isParallelLoadEnabled;
+        this.isCompressionEnabled = isCompressionEnabled;
+    }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+    @Override
+    protected ReadOnlyAddressBook readSnapshot(Path filePath) throws DataLoadingException {
+        logger.info("JSON file " + filePath + " found.");
+
+        // Converting in parallel only adds overhead when there is a single processor to run on
+        boolean isParallel = isParallelLoadEnabled && Runtime.getRuntime().availableProcessors() > 1;
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            return JsonSerializableAddressBook.readModelType(parser, isParallel);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -60,21 +72,13 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
-    }
-
-    /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
-
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    protected void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(addressBook);
+        if (isCompressionEnabled) {
+            JsonUtil.saveCompressedJsonFile(jsonAddressBook, filePath);
+        } else {
+            JsonUtil.saveJsonFile(jsonAddressBook, filePath);
+        }
     }
 
 }
@@ -1,12 +1,17 @@
 package casetrack.app.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import casetrack.app.commons.exceptions.IllegalValueException;
 import casetrack.app.model.AddressBook;
@@ -21,6 +26,11 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Number of persons read from the file before they are converted together in parallel. */
+    static final int PARALLEL_LOAD_CHUNK_SIZE = 4096;
+
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -48,13 +58,87 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            addPerson(addressBook, jsonAdaptedPerson.toModelType());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book stored in the format of this class from {@code parser} into the model's
+     * {@code AddressBook} object.
+     * Persons are converted as soon as they are read, so the whole file is never held in memory at once.
+     * If {@code isParallel} is true, persons are read in chunks that are each converted on multiple threads,
+     * and are then added to the address book in the order they appear in the file.
+     *
+     * @throws IOException if {@code parser} does not hold a valid address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser, boolean isParallel)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!fieldName.equals(PERSONS_FIELD)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
             }
-            addressBook.addPerson(person);
+
+            List<JsonAdaptedPerson> chunk = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+                if (!isParallel) {
+                    addPerson(addressBook, jsonAdaptedPerson.toModelType());
+                    continue;
+                }
+
+                chunk.add(jsonAdaptedPerson);
+                if (chunk.size() == PARALLEL_LOAD_CHUNK_SIZE) {
+                    addPersons(addressBook, chunk);
+                    chunk.clear();
+                }
+            }
+            addPersons(addressBook, chunk);
         }
         return addressBook;
     }
 
+    /**
+     * Converts {@code jsonAdaptedPersons} on multiple threads and adds them to {@code addressBook} in order.
+     * If more than one person violates the data constraints, the error of the first one is reported.
+     */
+    private static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> jsonAdaptedPersons)
+            throws IllegalValueException {
+        Person[] persons = new Person[jsonAdaptedPersons.size()];
+        IllegalValueException[] errors = new IllegalValueException[jsonAdaptedPersons.size()];
+        IntStream.range(0, persons.length).parallel().forEach(i -> {
+            try {
+                persons[i] = jsonAdaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        for (int i = 0; i < persons.length; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            addPerson(addressBook, persons[i]);
+        }
+    }
+
+    private static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
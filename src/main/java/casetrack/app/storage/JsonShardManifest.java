@@ -0,0 +1,60 @@
+package casetrack.app.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly list of the shards that make up a sharded address book, in the order of its persons.
+ */
+class JsonShardManifest {
+
+    public static final int VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Shard manifest version %d is not supported.";
+    public static final String MESSAGE_DUPLICATE_SHARD = "Shard manifest lists the same shard more than once.";
+    public static final String MESSAGE_INVALID_SHARD = "Shard manifest lists an invalid shard.";
+
+    private final int version;
+    private final List<Long> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given version and shard ids.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("version") int version, @JsonProperty("shards") List<Long> shards) {
+        this.version = version;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonShardManifest} of the current version with the given shard ids.
+     */
+    public JsonShardManifest(List<Long> shards) {
+        this(VERSION, shards);
+    }
+
+    /**
+     * Returns the ids of the shards, in the order of the persons stored in them.
+     *
+     * @throws IllegalValueException if the manifest is not of the current version or lists an invalid shard.
+     */
+    public List<Long> getShards() throws IllegalValueException {
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (shards.stream().anyMatch(shard -> shard == null || shard < 0)) {
+            throw new IllegalValueException(MESSAGE_INVALID_SHARD);
+        }
+        if (shards.stream().distinct().count() != shards.size()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SHARD);
+        }
+        return shards;
+    }
+
+}
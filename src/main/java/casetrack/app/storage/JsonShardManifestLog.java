@@ -0,0 +1,206 @@
+package casetrack.app.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.commons.util.JsonUtil;
+
+/**
+ * An append-only log of the changes made to the shard manifest in a directory since the manifest was last written.
+ * Like the journal of a {@link JournaledAddressBookStorage}, each change is stored as a single line of json, after a
+ * header line that identifies the version of the manifest that the changes apply to. A log that does not match its
+ * manifest is ignored.
+ */
+class JsonShardManifestLog {
+
+    public static final String LOG_FILE_NAME = "manifest.log";
+    public static final String MESSAGE_INVALID_ENTRY = "Shard manifest log entry does not match the shards listed.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonShardManifestLog.class);
+    private static final String HEADER_FORMAT = "manifest %d %d";
+
+    private final Path manifestPath;
+    private final Path filePath;
+    private int entryCount;
+
+    /**
+     * Creates a {@code JsonShardManifestLog} for the manifest in the shard directory at {@code directoryPath}.
+     */
+    public JsonShardManifestLog(Path directoryPath) {
+        requireNonNull(directoryPath);
+        this.manifestPath = directoryPath.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        this.filePath = directoryPath.resolve(LOG_FILE_NAME);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of changes recorded in the log.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Appends {@code entries} to the end of the log.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void append(List<Entry> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(filePath)) {
+            lines.append(getHeader()).append(System.lineSeparator());
+        }
+        for (Entry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+
+        FileUtil.appendToFile(filePath, lines.toString());
+        entryCount += entries.size();
+    }
+
+    /**
+     * Applies the changes recorded in the log to {@code shards}, the shards listed by the manifest, in the order
+     * they were made. Replaying stops at the first change that cannot be read or applied, such as one that was only
+     * partially written when the application stopped.
+     *
+     * @return true if every change in the log was applied.
+     * @throws IOException if there was any problem reading from the file.
+     */
+    public boolean replay(List<Long> shards) throws IOException {
+        requireNonNull(shards);
+        entryCount = 0;
+        if (!Files.exists(filePath)) {
+            return true;
+        }
+
+        // Removed shards are set to null and only dropped at the end, so that indexes stay valid while replaying
+        List<Long> replayedShards = new ArrayList<>(shards);
+        Map<Long, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < replayedShards.size(); i++) {
+            indexes.put(replayedShards.get(i), i);
+        }
+        boolean isComplete = true;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return true;
+            }
+            if (!header.equals(getHeader())) {
+                logger.warning("Shard manifest log " + filePath + " does not match manifest " + manifestPath
+                        + " and will be ignored.");
+                return false;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JsonUtil.fromJsonString(line, Entry.class).applyTo(replayedShards, indexes);
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Stopped replaying shard manifest log " + filePath + " after " + entryCount
+                            + " change(s): " + e.getMessage());
+                    isComplete = false;
+                    break;
+                }
+                entryCount++;
+            }
+        }
+
+        shards.clear();
+        replayedShards.stream().filter(Objects::nonNull).forEach(shards::add);
+        return isComplete;
+    }
+
+    /**
+     * Removes all changes from the log.
+     *
+     * @throws IOException if there was any problem deleting the file.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        entryCount = 0;
+    }
+
+    /**
+     * Returns a line that identifies the current version of the manifest.
+     */
+    private String getHeader() throws IOException {
+        if (!Files.exists(manifestPath)) {
+            return String.format(HEADER_FORMAT, -1, -1);
+        }
+        return String.format(HEADER_FORMAT, Files.size(manifestPath),
+                Files.getLastModifiedTime(manifestPath).toMillis());
+    }
+
+    /**
+     * Jackson-friendly version of a change to the shards listed by the manifest, which replaces the shard of a
+     * person with the shard of the edited person. A change without a target shard adds a shard after the last one,
+     * and a change without a new shard removes the target shard.
+     */
+    static class Entry {
+        private final Long target;
+        private final Long shard;
+
+        /**
+         * Constructs an {@code Entry} that replaces {@code target} with {@code shard}, either of which may be null.
+         */
+        @JsonCreator
+        Entry(@JsonProperty("target") Long target, @JsonProperty("shard") Long shard) {
+            this.target = target;
+            this.shard = shard;
+        }
+
+        /**
+         * Applies this change to {@code shards}, where {@code indexes} maps each shard listed to its index.
+         *
+         * @throws IllegalValueException if the target shard is not listed or the new shard already is.
+         */
+        private void applyTo(List<Long> shards, Map<Long, Integer> indexes) throws IllegalValueException {
+            if ((target == null && shard == null) || (shard != null && (shard < 0 || indexes.containsKey(shard)))) {
+                throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+            }
+            Integer index = target == null ? null : indexes.remove(target);
+            if (target != null && index == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+            }
+
+            if (index == null) {
+                index = shards.size();
+                shards.add(shard);
+            } else {
+                shards.set(index, shard);
+            }
+            if (shard != null) {
+                indexes.put(shard, index);
+            }
+        }
+    }
+
+}
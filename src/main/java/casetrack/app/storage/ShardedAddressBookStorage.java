@@ -0,0 +1,396 @@
+package casetrack.app.storage;
+
+import static casetrack.app.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import casetrack.app.commons.core.LogsCenter;
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory on the hard disk, with each person in its own json file.
+ *
+ * Each person file is a shard named by a unique id, and a manifest lists the ids of the shards in the order of
+ * the persons. Saving changes only writes the shards of persons added or edited since the last save, and appends the
+ * shards they replace to a log of changes to the manifest, which is written again only once the log grows past
+ * {@link #MANIFEST_LOG_COMPACTION_THRESHOLD} changes. A shard is never overwritten: an edited person is written to a
+ * new shard, and the shards of edited and deleted persons are deleted once the change is logged. Shards left
+ * unlisted by a save that failed are only deleted by the next save of the whole address book, or when the address
+ * book is next read, so saving changes never lists the directory.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_SUFFIX = "-shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_FILE_EXTENSION = ".json";
+    public static final int MANIFEST_LOG_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directoryPath;
+    private final boolean isParallelLoadEnabled;
+    private final JsonShardManifestLog manifestLog;
+
+    // Shards of the persons most recently read from or saved to directoryPath
+    private final Map<Person, Long> shardIds = new IdentityHashMap<>();
+    private long nextShardId = 0;
+
+    /**
+     * True if shardIds holds the shard of every person in the most recently saved address book, and the manifest and
+     * its log together list their shards.
+     */
+    private boolean canSaveChangedShards = false;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that stores data in the directory at {@code directoryPath}.
+     */
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, false);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that stores data in the directory at {@code directoryPath}.
+     *
+     * @param isParallelLoadEnabled whether shards are read on multiple threads.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, boolean isParallelLoadEnabled) {
+        this.directoryPath = directoryPath;
+        this.isParallelLoadEnabled = isParallelLoadEnabled;
+        this.manifestLog = new JsonShardManifestLog(directoryPath);
+    }
+
+    /**
+     * Returns the path of the shard directory kept in place of the data file at {@code filePath},
+     * which is {@code filePath} without its extension followed by {@link #DIRECTORY_SUFFIX}.
+     */
+    public static Path toShardDirectoryPath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directoryPath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath) throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(
+                directoryPath.resolve(MANIFEST_FILE_NAME), JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        boolean isOwnDirectory = directoryPath.equals(this.directoryPath);
+        JsonShardManifestLog log = isOwnDirectory ? manifestLog : new JsonShardManifestLog(directoryPath);
+        List<Long> shards;
+        boolean isLogReplayed;
+        List<Person> persons;
+        try {
+            shards = new ArrayList<>(manifest.get().getShards());
+            isLogReplayed = log.replay(shards);
+            persons = readShards(directoryPath, shards);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from shard directory " + directoryPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            if (addressBook.hasPerson(person)) {
+                logger.info("Illegal values found in " + directoryPath + ": "
+                        + JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                throw new DataLoadingException(
+                        new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            }
+            addressBook.addPerson(person);
+        }
+
+        if (isOwnDirectory) {
+            shardIds.clear();
+            for (int i = 0; i < persons.size(); i++) {
+                shardIds.put(persons.get(i), shards.get(i));
+            }
+            nextShardId = shards.stream().mapToLong(Long::longValue).max().orElse(-1) + 1;
+            // Changes cannot be appended after a change that was only partially written
+            canSaveChangedShards = isLogReplayed;
+            deleteUnlistedShards(directoryPath, new HashSet<>(shards));
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the persons in the given {@code shards}, on multiple threads if parallel loading is enabled.
+     * If more than one shard cannot be read, the error of the first one is reported.
+     */
+    private List<Person> readShards(Path directoryPath, List<Long> shards) throws IOException, IllegalValueException {
+        Person[] persons = new Person[shards.size()];
+        Exception[] errors = new Exception[shards.size()];
+        boolean isParallel = isParallelLoadEnabled && Runtime.getRuntime().availableProcessors() > 1;
+        IntStream indexes = isParallel
+                ? IntStream.range(0, shards.size()).parallel()
+                : IntStream.range(0, shards.size());
+        indexes.forEach(i -> {
+            try {
+                Path shardPath = getShardPath(directoryPath, shards.get(i));
+                persons[i] = JsonUtil.fromJsonString(FileUtil.readFromFile(shardPath), JsonAdaptedPerson.class)
+                        .toModelType();
+            } catch (IOException | IllegalValueException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (Exception error : errors) {
+            if (error instanceof IOException) {
+                throw (IOException) error;
+            } else if (error instanceof IllegalValueException) {
+                throw (IllegalValueException) error;
+            }
+        }
+        return List.of(persons);
+    }
+
+    @Override
+    public ReadOnlyAddressBook replayAddressBookChanges(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // Every change is saved to the shards directly, so there is nothing to replay
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Every person is written to a new shard.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        requireAllNonNull(addressBook, directoryPath);
+        boolean isOwnDirectory = directoryPath.equals(this.directoryPath);
+        if (isOwnDirectory) {
+            canSaveChangedShards = false;
+        }
+
+        Files.createDirectories(directoryPath);
+        long firstShardId = isOwnDirectory ? nextShardId : getNextShardId(directoryPath);
+        Map<Person, Long> newShardIds = new IdentityHashMap<>();
+        List<Long> shards = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            long shardId = firstShardId + shards.size();
+            writeShard(directoryPath, shardId, person);
+            newShardIds.put(person, shardId);
+            shards.add(shardId);
+        }
+        writeManifest(directoryPath, shards);
+        JsonShardManifestLog log = isOwnDirectory ? manifestLog : new JsonShardManifestLog(directoryPath);
+        log.clear();
+        deleteUnlistedShards(directoryPath, new HashSet<>(shards));
+
+        if (isOwnDirectory) {
+            shardIds.clear();
+            shardIds.putAll(newShardIds);
+            nextShardId = firstShardId + shards.size();
+            canSaveChangedShards = true;
+        }
+    }
+
+    /**
+     * Writes the shards of the persons added or edited by {@code changes} and logs the shards they replace, or saves
+     * the whole address book if the shards of the persons in {@code addressBook} are not known.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+
+        boolean hasReset = changes.stream().anyMatch(change -> change.getType() == AddressBookChange.Type.RESET);
+        if (!canSaveChangedShards || hasReset) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        List<Long> replacedShards = new ArrayList<>();
+        try {
+            Optional<List<JsonShardManifestLog.Entry>> entries = saveChangedShards(changes, replacedShards);
+            if (!entries.isPresent()) {
+                saveAddressBook(addressBook);
+                return;
+            }
+            if (manifestLog.getEntryCount() + entries.get().size() <= MANIFEST_LOG_COMPACTION_THRESHOLD) {
+                manifestLog.append(entries.get());
+            } else if (!compactManifestLog(addressBook)) {
+                saveAddressBook(addressBook);
+                return;
+            }
+        } catch (IOException ioe) {
+            // The shards of unsaved changes are not known, so the next save has to rewrite every shard
+            canSaveChangedShards = false;
+            throw ioe;
+        }
+        deleteShards(directoryPath, replacedShards);
+    }
+
+    /**
+     * Writes the shards of the persons added or edited by {@code changes} and returns the changes to the shards
+     * listed by the manifest, or an empty {@code Optional} if the shard of any person edited or deleted is not known.
+     * The shards of the persons edited or deleted by {@code changes} are added to {@code replacedShards}.
+     */
+    private Optional<List<JsonShardManifestLog.Entry>> saveChangedShards(List<AddressBookChange> changes,
+            List<Long> replacedShards) throws IOException {
+        List<JsonShardManifestLog.Entry> entries = new ArrayList<>();
+        for (AddressBookChange change : changes) {
+            Long replacedShard = null;
+            if (change.getType() == AddressBookChange.Type.SET || change.getType() == AddressBookChange.Type.DELETE) {
+                replacedShard = shardIds.remove(change.getTarget());
+                if (replacedShard == null) {
+                    return Optional.empty();
+                }
+                replacedShards.add(replacedShard);
+            }
+            Long shardId = null;
+            if (change.getType() == AddressBookChange.Type.SET || change.getType() == AddressBookChange.Type.ADD) {
+                shardId = nextShardId++;
+                writeShard(directoryPath, shardId, change.getEditedPerson());
+                shardIds.put(change.getEditedPerson(), shardId);
+            }
+            entries.add(new JsonShardManifestLog.Entry(replacedShard, shardId));
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Writes a manifest that lists the shards of the persons in {@code addressBook}, in order, and clears the log.
+     *
+     * @return false if the shard of any person is not known, in which case nothing is written.
+     */
+    private boolean compactManifestLog(ReadOnlyAddressBook addressBook) throws IOException {
+        List<Long> shards = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            Long shardId = shardIds.get(person);
+            if (shardId == null) {
+                return false;
+            }
+            shards.add(shardId);
+        }
+        writeManifest(directoryPath, shards);
+        manifestLog.clear();
+        return true;
+    }
+
+    private static Path getShardPath(Path directoryPath, long shardId) {
+        return directoryPath.resolve(shardId + SHARD_FILE_EXTENSION);
+    }
+
+    private static void writeShard(Path directoryPath, long shardId, Person person) throws IOException {
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(person));
+        FileUtil.writeToFile(getShardPath(directoryPath, shardId), json);
+    }
+
+    /**
+     * Replaces the manifest in {@code directoryPath} with one that lists {@code shards}.
+     */
+    private static void writeManifest(Path directoryPath, List<Long> shards) throws IOException {
+        JsonUtil.saveJsonFile(new JsonShardManifest(shards), directoryPath.resolve(MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Deletes the given {@code shards} in {@code directoryPath}.
+     * Shards that cannot be deleted are left in place, since they are ignored when reading.
+     */
+    private static void deleteShards(Path directoryPath, List<Long> shards) {
+        for (long shardId : shards) {
+            try {
+                Files.deleteIfExists(getShardPath(directoryPath, shardId));
+            } catch (IOException ioe) {
+                logger.warning("Could not delete unused shard " + shardId + " in " + directoryPath + ": "
+                        + ioe.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Deletes the shards in {@code directoryPath} that are not in {@code listedShards}, which lists the whole
+     * directory.
+     * Shards that cannot be deleted are left in place, since they are ignored when reading.
+     */
+    private static void deleteUnlistedShards(Path directoryPath, Set<Long> listedShards) {
+        try (DirectoryStream<Path> shardPaths = Files.newDirectoryStream(directoryPath, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path shardPath : shardPaths) {
+                Optional<Long> shardId = getShardId(shardPath);
+                if (shardId.isPresent() && !listedShards.contains(shardId.get())) {
+                    Files.deleteIfExists(shardPath);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not delete unused shards in " + directoryPath + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Returns an id greater than that of any shard in {@code directoryPath}.
+     */
+    private static long getNextShardId(Path directoryPath) throws IOException {
+        long nextShardId = 0;
+        try (DirectoryStream<Path> shardPaths = Files.newDirectoryStream(directoryPath, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path shardPath : shardPaths) {
+                Optional<Long> shardId = getShardId(shardPath);
+                if (shardId.isPresent()) {
+                    nextShardId = Math.max(nextShardId, shardId.get() + 1);
+                }
+            }
+        }
+        return nextShardId;
+    }
+
+    /**
+     * Returns the id of the shard at {@code shardPath}, or an empty {@code Optional} if it is not a shard.
+     */
+    private static Optional<Long> getShardId(Path shardPath) {
+        String fileName = shardPath.getFileName().toString();
+        String baseName = fileName.substring(0, fileName.length() - SHARD_FILE_EXTENSION.length());
+        try {
+            return Optional.of(Long.parseLong(baseName));
+        } catch (NumberFormatException nfe) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -2,11 +2,13 @@ package casetrack.app.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import casetrack.app.commons.core.LogsCenter;
 import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.model.AddressBookChange;
 import casetrack.app.model.ReadOnlyAddressBook;
 import casetrack.app.model.ReadOnlyUserPrefs;
 import casetrack.app.model.UserPrefs;
@@ -75,4 +77,17 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        logger.fine("Attempting to save " + changes.size() + " change(s) to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    @Override
+    public ReadOnlyAddressBook replayAddressBookChanges(ReadOnlyAddressBook addressBook) {
+        logger.fine("Attempting to replay saved changes to data file: " + getAddressBookFilePath());
+        return addressBookStorage.replayAddressBookChanges(addressBook);
+    }
+
 }
@@ -0,0 +1,54 @@
+package casetrack.app.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.storage.JsonAddressBookStorage;
+
+/**
+ * Compares the time taken to save and load address books of various sizes, and the size of the saved file,
+ * between plain and compressed json files. The sizes can be given as arguments instead.
+ */
+public class AddressBookCompressionBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        Path tempFolder = Files.createTempDirectory("casetrack-benchmark");
+        int[] sizes = args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : SIZES;
+
+        for (int size : sizes) {
+            AddressBook addressBook = Benchmark.generateAddressBook(size);
+            Path plainFilePath = tempFolder.resolve("addressbook-" + size + ".json");
+            Path compressedFilePath = tempFolder.resolve("addressbook-" + size + "-compressed.json");
+            JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(plainFilePath, false, false);
+            JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(compressedFilePath, false, true);
+
+            double plainSaveMillis = Benchmark.measureMillis(() -> plainStorage.saveAddressBook(addressBook),
+                    WARMUP_RUNS, MEASURED_RUNS);
+            double compressedSaveMillis = Benchmark.measureMillis(() -> compressedStorage.saveAddressBook(addressBook),
+                    WARMUP_RUNS, MEASURED_RUNS);
+            double plainLoadMillis = Benchmark.measureMillis(() -> plainStorage.readAddressBook(),
+                    WARMUP_RUNS, MEASURED_RUNS);
+            double compressedLoadMillis = Benchmark.measureMillis(() -> compressedStorage.readAddressBook(),
+                    WARMUP_RUNS, MEASURED_RUNS);
+
+            Benchmark.report("save " + size + " persons, plain", plainSaveMillis);
+            Benchmark.report("save " + size + " persons, compressed", compressedSaveMillis);
+            Benchmark.report("load " + size + " persons, plain", plainLoadMillis);
+            Benchmark.report("load " + size + " persons, compressed", compressedLoadMillis);
+            long plainBytes = Files.size(plainFilePath);
+            long compressedBytes = Files.size(compressedFilePath);
+            System.out.printf("plain file: %d bytes, compressed file: %d bytes (%.1fx smaller)%n",
+                    plainBytes, compressedBytes, (double) plainBytes / compressedBytes);
+
+            Files.deleteIfExists(plainFilePath);
+            Files.deleteIfExists(compressedFilePath);
+        }
+        Files.deleteIfExists(tempFolder);
+    }
+}
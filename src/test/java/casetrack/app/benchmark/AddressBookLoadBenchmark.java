@@ -0,0 +1,57 @@
+package casetrack.app.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.storage.BinaryAddressBookStorage;
+import casetrack.app.storage.JsonAddressBookStorage;
+
+/**
+ * Measures how long it takes to load address books of various sizes from a json file,
+ * with and without converting persons in parallel, and from a binary snapshot, with and without lazy loading.
+ */
+public class AddressBookLoadBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path tempFolder = Files.createTempDirectory("casetrack-benchmark");
+        System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+
+        for (int size : SIZES) {
+            Path filePath = tempFolder.resolve("addressbook-" + size + ".json");
+            AddressBook addressBook = Benchmark.generateAddressBook(size);
+            Path binaryFilePath = BinaryAddressBookStorage.toBinaryFilePath(filePath);
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+
+            JsonAddressBookStorage serialStorage = new JsonAddressBookStorage(filePath, false);
+            JsonAddressBookStorage parallelStorage = new JsonAddressBookStorage(filePath, true);
+            BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+            BinaryAddressBookStorage lazyBinaryStorage = new BinaryAddressBookStorage(binaryFilePath, true);
+            double serialMillis = Benchmark.measureMillis(() -> serialStorage.readAddressBook(),
+                    WARMUP_RUNS, MEASURED_RUNS);
+            double parallelMillis = Benchmark.measureMillis(() -> parallelStorage.readAddressBook(),
+                    WARMUP_RUNS, MEASURED_RUNS);
+            double binaryMillis = Benchmark.measureMillis(() -> binaryStorage.readAddressBook(),
+                    WARMUP_RUNS, MEASURED_RUNS);
+            double lazyBinaryMillis = Benchmark.measureMillis(() -> lazyBinaryStorage.readAddressBook(),
+                    WARMUP_RUNS, MEASURED_RUNS);
+
+            Benchmark.report("load " + size + " persons, serial", serialMillis);
+            Benchmark.report("load " + size + " persons, parallel", parallelMillis);
+            System.out.printf("speedup: %.2fx%n", serialMillis / parallelMillis);
+            Benchmark.report("load " + size + " persons, binary", binaryMillis);
+            Benchmark.report("load " + size + " persons, binary, lazy notes", lazyBinaryMillis);
+            System.out.printf("json file: %d bytes, binary file: %d bytes%n",
+                    Files.size(filePath), Files.size(binaryFilePath));
+
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(binaryFilePath);
+        }
+        Files.deleteIfExists(tempFolder);
+    }
+}
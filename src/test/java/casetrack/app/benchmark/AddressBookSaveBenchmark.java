@@ -0,0 +1,62 @@
+package casetrack.app.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import casetrack.app.commons.core.DurabilityLevel;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.person.Person;
+import casetrack.app.storage.JsonAddressBookStorage;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to save address books of various sizes to a json file, and to save the change made by
+ * a single command to the journal, at each durability level. Saving a single change is done after every command,
+ * so its time is compared against a latency budget.
+ */
+public class AddressBookSaveBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final double CHANGE_LATENCY_BUDGET_MILLIS = 50;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 9;
+
+    public static void main(String[] args) throws Exception {
+        Path tempFolder = Files.createTempDirectory("casetrack-benchmark");
+
+        for (int size : SIZES) {
+            AddressBook addressBook = Benchmark.generateAddressBook(size);
+            Person target = addressBook.getPersonList().get(0);
+            Person editedPerson = new PersonBuilder(target).withIncome("1234").build();
+            List<AddressBookChange> changes = List.of(AddressBookChange.edited(target, editedPerson));
+
+            for (DurabilityLevel durabilityLevel : DurabilityLevel.values()) {
+                FileUtil.setDurabilityLevel(durabilityLevel);
+                Path filePath = tempFolder.resolve("addressbook-" + size + "-" + durabilityLevel + ".json");
+                JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+                double saveMillis = Benchmark.measureMillis(() -> storage.saveAddressBook(addressBook),
+                        WARMUP_RUNS, MEASURED_RUNS);
+                // Journal entries do not depend on the saved data, so the same change can be saved repeatedly
+                double changeMillis = Benchmark.measureMillis(() -> storage.saveAddressBookChanges(addressBook,
+                        changes), WARMUP_RUNS, MEASURED_RUNS);
+
+                Benchmark.report("save " + size + " persons, " + durabilityLevel, saveMillis);
+                Benchmark.report("save 1 change to " + size + " persons, " + durabilityLevel, changeMillis);
+                System.out.println(changeMillis <= CHANGE_LATENCY_BUDGET_MILLIS
+                        ? "within latency budget" : "over latency budget of " + CHANGE_LATENCY_BUDGET_MILLIS + " ms");
+
+                try (Stream<Path> paths = Files.list(tempFolder)) {
+                    for (Path path : paths.toArray(Path[]::new)) {
+                        Files.delete(path);
+                    }
+                }
+            }
+        }
+        Files.deleteIfExists(tempFolder);
+    }
+}
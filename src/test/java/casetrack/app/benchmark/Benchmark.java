@@ -0,0 +1,68 @@
+package casetrack.app.benchmark;
+
+import java.util.Arrays;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Note;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Contains helper methods shared by the benchmarks in this package.
+ * Benchmarks are plain programs with a {@code main} method, run with {@code gradlew benchmark -Pbenchmark=<name>}.
+ */
+public class Benchmark {
+
+    /**
+     * A piece of work to be timed.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs {@code task} {@code warmupRuns} times without timing it, then returns the median time in milliseconds
+     * taken by {@code measuredRuns} further runs.
+     */
+    public static double measureMillis(Task task, int warmupRuns, int measuredRuns) throws Exception {
+        for (int i = 0; i < warmupRuns; i++) {
+            task.run();
+        }
+
+        long[] times = new long[measuredRuns];
+        for (int i = 0; i < measuredRuns; i++) {
+            long start = System.nanoTime();
+            task.run();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[measuredRuns / 2] / 1_000_000.0;
+    }
+
+    /**
+     * Prints a line of results for the benchmark named {@code name}.
+     */
+    public static void report(String name, double millis) {
+        System.out.printf("%-50s %12.3f ms%n", name, millis);
+    }
+
+    /**
+     * Returns an address book with {@code size} distinct persons, each with a few tags and notes.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        String[] tags = {"elderly", "lowIncome", "singleParent", "disabled", "unemployed", "caregiver"};
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Patient " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("patient" + i + "@example.com")
+                    .withAddress("Blk " + (i % 900 + 1) + " Ang Mo Kio Avenue " + (i % 10 + 1))
+                    .withIncome(String.valueOf(500 + i % 4000))
+                    .withTags(tags[i % tags.length], tags[(i / tags.length) % tags.length])
+                    .withNotes(new Note("Home visit " + i), new Note("Follow up on housing application"))
+                    .build());
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,68 @@
+package casetrack.app.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import casetrack.app.model.PersonSearchIndex;
+import casetrack.app.model.person.NameSimilarToKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to find the persons with a name spelt like a keyword in address books of various
+ * sizes, by testing every person and by looking the keyword up in the {@code BkTree} of a {@code PersonSearchIndex}.
+ * Names are made of random syllables, so that there are many name words that differ by only a letter or two.
+ */
+public class FuzzyNameSearchBenchmark {
+
+    private static final int[] SIZES = {100_000, 500_000};
+    private static final String[] SYLLABLES = {"ah", "al", "an", "ba", "chen", "da", "el", "fa", "ha", "hu", "ib",
+        "ka", "kh", "li", "lim", "ma", "mad", "me", "mo", "mu", "na", "ng", "ra", "ri", "sa", "si", "ta", "tan", "wei",
+        "ya", "yu", "za"};
+    private static final String[] KEYWORDS = {"Mohamad", "Tann", "Weilin", "Kharim"};
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        for (int size : SIZES) {
+            List<Person> persons = generatePersons(size);
+            PersonSearchIndex searchIndex = new PersonSearchIndex();
+            searchIndex.setPersons(persons);
+
+            for (String keyword : KEYWORDS) {
+                NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of(keyword));
+                String name = "\"" + keyword + "\", " + size + " persons";
+                double scanMillis = Benchmark.measureMillis(() -> persons.stream().filter(predicate).count(),
+                        WARMUP_RUNS, MEASURED_RUNS);
+                double indexMillis = Benchmark.measureMillis(() -> searchIndex.findBySimilarName(predicate),
+                        WARMUP_RUNS, MEASURED_RUNS);
+
+                Benchmark.report(name + ", scan", scanMillis);
+                Benchmark.report(name + ", index", indexMillis);
+                System.out.println("matches: " + searchIndex.findBySimilarName(predicate).size());
+            }
+        }
+    }
+
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String name = generateWord(random) + " " + generateWord(random)
+                    + (random.nextBoolean() ? " " + generateWord(random) : "");
+            persons.add(new PersonBuilder().withName(name).withPhone(String.valueOf(80000000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static String generateWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllableCount = 1 + random.nextInt(3);
+        for (int i = 0; i < syllableCount; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+}
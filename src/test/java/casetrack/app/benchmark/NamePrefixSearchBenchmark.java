@@ -0,0 +1,45 @@
+package casetrack.app.benchmark;
+
+import java.util.List;
+
+import casetrack.app.model.PersonSearchIndex;
+import casetrack.app.model.person.NameStartsWithKeywordsPredicate;
+import casetrack.app.model.person.Person;
+
+/**
+ * Measures how long it takes to find the persons with a name word starting with a prefix in address books of
+ * various sizes, by testing every person and by looking the prefix up in a {@code PersonSearchIndex},
+ * both for all matches and for only the first few, as needed to suggest names as they are typed.
+ */
+public class NamePrefixSearchBenchmark {
+
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final String[] PREFIXES = {"pat", "1234", "99999"};
+    private static final int SUGGESTION_LIMIT = 10;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        for (int size : SIZES) {
+            List<Person> persons = Benchmark.generateAddressBook(size).getPersonList();
+            PersonSearchIndex searchIndex = new PersonSearchIndex();
+            searchIndex.setPersons(persons);
+
+            for (String prefix : PREFIXES) {
+                NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(List.of(prefix));
+                String name = "\"" + prefix + "\", " + size + " persons";
+                double scanMillis = Benchmark.measureMillis(() -> persons.stream().filter(predicate).count(),
+                        WARMUP_RUNS, MEASURED_RUNS);
+                double indexMillis = Benchmark.measureMillis(() -> searchIndex.find(predicate),
+                        WARMUP_RUNS, MEASURED_RUNS);
+                double firstMillis = Benchmark.measureMillis(() -> searchIndex.findByNamePrefix(prefix,
+                        SUGGESTION_LIMIT), WARMUP_RUNS, MEASURED_RUNS);
+
+                Benchmark.report(name + ", scan", scanMillis);
+                Benchmark.report(name + ", index", indexMillis);
+                Benchmark.report(name + ", index, first " + SUGGESTION_LIMIT, firstMillis);
+                System.out.println("matches: " + searchIndex.find(predicate).get().size());
+            }
+        }
+    }
+}
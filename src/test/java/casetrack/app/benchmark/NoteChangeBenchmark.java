@@ -0,0 +1,72 @@
+package casetrack.app.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to add, edit and remove a note of a person with many notes, and how many bytes each
+ * change allocates, compared to copying the notes into a new list as each change used to.
+ */
+public class NoteChangeBenchmark {
+
+    private static final int[] NOTE_COUNTS = {2_000, 20_000, 200_000};
+    private static final int CHANGES = 1_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        for (int noteCount : NOTE_COUNTS) {
+            List<Note> notes = new ArrayList<>();
+            for (int i = 0; i < noteCount; i++) {
+                notes.add(new Note("Home visit " + i));
+            }
+            Person person = new PersonBuilder().build();
+            for (Note note : notes) {
+                person = person.addNote(note);
+            }
+            Person personWithNotes = person;
+            Note note = new Note("Follow up on housing application");
+
+            System.out.println(noteCount + " notes, " + CHANGES + " changes");
+            measure("  copy notes", () -> {
+                for (int i = 0; i < CHANGES; i++) {
+                    List<Note> copy = new ArrayList<>(notes);
+                    copy.add(note);
+                }
+            });
+            measure("  add note", () -> {
+                for (int i = 0; i < CHANGES; i++) {
+                    personWithNotes.addNote(note);
+                }
+            });
+            measure("  edit note", () -> {
+                for (int i = 0; i < CHANGES; i++) {
+                    personWithNotes.editNote(i % noteCount, note);
+                }
+            });
+            measure("  remove note", () -> {
+                for (int i = 0; i < CHANGES; i++) {
+                    personWithNotes.removeNote(i % noteCount);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reports the median time taken by {@code task} and the bytes it allocates for each change it makes.
+     */
+    private static void measure(String name, Benchmark.Task task) throws Exception {
+        Benchmark.report(name, Benchmark.measureMillis(task, WARMUP_RUNS, MEASURED_RUNS));
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        task.run();
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        System.out.printf("%-50s %12.1f bytes per change%n", "", (double) allocated / CHANGES);
+    }
+}
@@ -0,0 +1,47 @@
+package casetrack.app.benchmark;
+
+import java.util.function.Predicate;
+
+import casetrack.app.logic.parser.SearchQueryParser;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Person;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+/**
+ * Measures how long it takes to filter the person list shown to the user by queries that cannot be looked up in a
+ * search index, which the model scans in parallel in large address books, compared to the filtered list testing the
+ * query on one person after another.
+ */
+public class ParallelScanBenchmark {
+
+    private static final int[] SIZES = {100_000, 500_000};
+    private static final String[] QUERIES = {"NOT income<1500", "NOT (tag:caregiver OR note:housing)"};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("processors: " + Runtime.getRuntime().availableProcessors());
+        for (int size : SIZES) {
+            AddressBook addressBook = Benchmark.generateAddressBook(size);
+            ObservableList<Person> persons = addressBook.getPersonList();
+            ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+            for (String query : QUERIES) {
+                Predicate<Person> predicate = SearchQueryParser.parse(query);
+                double serialMillis = Benchmark.measureMillis(() -> new FilteredList<>(persons, predicate).size(),
+                        WARMUP_RUNS, MEASURED_RUNS);
+                // A new predicate is searched for each time, so that the result is not taken from the search cache
+                double modelMillis = Benchmark.measureMillis(() -> model.updateFilteredPersonList(
+                        person -> predicate.test(person)), WARMUP_RUNS, MEASURED_RUNS);
+
+                System.out.println(query + ", " + size + " persons");
+                Benchmark.report("  filtered list", serialMillis);
+                Benchmark.report("  model", modelMillis);
+                System.out.println("matches: " + model.getFilteredPersonList().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package casetrack.app.benchmark;
+
+import java.util.List;
+import java.util.Objects;
+
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to hash and compare every person of a large address book with the hash codes cached
+ * by {@code Person} and {@code Name}, and with the hash codes recomputed on every call as they used to be, as well
+ * as how long editing a person and refreshing the person list takes.
+ */
+public class PersonHashBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int EDITS = 1_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        ModelManager model = new ModelManager(Benchmark.generateAddressBook(SIZE), new UserPrefs());
+        List<Person> persons = model.getAddressBook().getPersonList();
+
+        Benchmark.report("hash " + SIZE + " persons, recomputed", Benchmark.measureMillis(() -> {
+            for (Person person : persons) {
+                recomputedHashCode(person);
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+        Benchmark.report("hash " + SIZE + " persons, cached", Benchmark.measureMillis(() -> {
+            for (Person person : persons) {
+                person.hashCode();
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+
+        // A list view compares the person shown in each row with the one shown before, which differs after the
+        // list is sorted or filtered
+        Benchmark.report("refresh " + SIZE + " rows, recomputed", Benchmark.measureMillis(() -> {
+            for (int i = 1; i < persons.size(); i++) {
+                if (recomputedHashCode(persons.get(i)) == recomputedHashCode(persons.get(i - 1))) {
+                    persons.get(i).equals(persons.get(i - 1));
+                }
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+        Benchmark.report("refresh " + SIZE + " rows, cached", Benchmark.measureMillis(() -> {
+            for (int i = 1; i < persons.size(); i++) {
+                persons.get(i).equals(persons.get(i - 1));
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+
+        // Each run makes an even number of edits, so that it ends with the version it started with
+        long id = persons.get(SIZE / 2).getId();
+        List<Person> versions = List.of(new PersonBuilder(persons.get(SIZE / 2)).withIncome("100").build(),
+                new PersonBuilder(persons.get(SIZE / 2)).withIncome("200").build());
+        Benchmark.report(EDITS + " edits of " + SIZE + " persons, shown", Benchmark.measureMillis(() -> {
+            for (int i = 0; i < EDITS; i++) {
+                model.setPerson(id, versions.get(i % 2));
+                // The edited person is shown in the detail panel, whose instruction hashes it
+                persons.get(SIZE / 2).hashCode();
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+    }
+
+    /**
+     * The implementation of {@code Person#hashCode} before hash codes were cached.
+     */
+    private static int recomputedHashCode(Person person) {
+        int nameHash = person.getName().fullName.toLowerCase().replaceAll("\\s+", " ").trim().hashCode();
+        return Objects.hash(nameHash, person.getPhone(), person.getEmail(), person.getAddress(), person.getIncome(),
+                person.getMedicalInfo(), person.getTags(), person.getNotes());
+    }
+}
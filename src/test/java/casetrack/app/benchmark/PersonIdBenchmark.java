@@ -0,0 +1,49 @@
+package casetrack.app.benchmark;
+
+import java.util.List;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to edit a person of a large address book by its ID, and by a copy of the person that
+ * has to be compared field by field with the stored person, as commands identified their targets before.
+ */
+public class PersonIdBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int NOTE_COUNT = 1_000;
+    private static final int EDITS = 1_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        AddressBook addressBook = Benchmark.generateAddressBook(SIZE);
+        Person target = addressBook.getPersonList().get(SIZE / 2);
+        Note[] notes = new Note[NOTE_COUNT];
+        for (int i = 0; i < NOTE_COUNT; i++) {
+            notes[i] = new Note("Home visit " + i);
+        }
+        long id = target.getId();
+        List<Person> versions = List.of(new PersonBuilder(target).withNotes(notes).withIncome("100").build(),
+                new PersonBuilder(target).withNotes(notes).withIncome("200").build());
+        // Equal to the versions, but not the instances stored, as commands holding a copy would have
+        List<Person> copies = List.of(new PersonBuilder(versions.get(0)).build(),
+                new PersonBuilder(versions.get(1)).build());
+        addressBook.setPerson(id, versions.get(1));
+
+        // Each run makes an even number of edits, so that it ends with the version it started with
+        Benchmark.report(EDITS + " edits by copy, " + NOTE_COUNT + " notes", Benchmark.measureMillis(() -> {
+            for (int i = 0; i < EDITS; i++) {
+                addressBook.setPerson(copies.get((i + 1) % 2), versions.get(i % 2));
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+        Benchmark.report(EDITS + " edits by id, " + NOTE_COUNT + " notes", Benchmark.measureMillis(() -> {
+            for (int i = 0; i < EDITS; i++) {
+                addressBook.setPerson(id, versions.get(i % 2));
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+    }
+}
@@ -0,0 +1,49 @@
+package casetrack.app.benchmark;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import casetrack.app.logic.parser.SearchQueryParser;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Person;
+
+/**
+ * Measures how long it takes to filter the person list shown to the user by search queries in address books of
+ * various sizes, compared to testing the query on every person.
+ */
+public class QuerySearchBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final String[] QUERIES = {
+        "name:42 AND tag:caregiver AND income<1500",
+        "tag:caregiver AND tag:elderly AND NOT income>=1000",
+        "(name:42 OR name:4242) AND NOT tag:elderly OR note:\"visit 4242\"",
+        "income<1000 OR tag:disabled"
+    };
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        for (int size : SIZES) {
+            AddressBook addressBook = Benchmark.generateAddressBook(size);
+            List<Person> persons = addressBook.getPersonList();
+            ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+            for (String query : QUERIES) {
+                Predicate<Person> predicate = SearchQueryParser.parse(query);
+                String name = query + ", " + size + " persons";
+                double scanMillis = Benchmark.measureMillis(() -> persons.stream().filter(predicate).count(),
+                        WARMUP_RUNS, MEASURED_RUNS);
+                double filterMillis = Benchmark.measureMillis(() -> model.updateFilteredPersonList(predicate),
+                        WARMUP_RUNS, MEASURED_RUNS);
+
+                System.out.println(name);
+                Benchmark.report("  scan", scanMillis);
+                Benchmark.report("  filtered list", filterMillis);
+                System.out.println("matches: " + model.getFilteredPersonList().size());
+            }
+        }
+    }
+}
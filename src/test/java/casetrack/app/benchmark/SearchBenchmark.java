@@ -0,0 +1,61 @@
+package casetrack.app.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Predicate;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.PersonSearchIndex;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.EmailContainsKeywordsPredicate;
+import casetrack.app.model.person.IncomeInRangePredicate;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+
+/**
+ * Measures how long it takes to find the persons matching search predicates in address books of various sizes,
+ * by testing the predicate on every person and by looking the predicate up in a {@code PersonSearchIndex},
+ * and how long it takes to filter the person list shown to the user.
+ */
+public class SearchBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        List<Predicate<Person>> predicates = List.of(
+                new NameContainsKeywordsPredicate(List.of("42")),
+                new TagContainsKeywordsPredicate(List.of("caregiver")),
+                new EmailContainsKeywordsPredicate(List.of("patient123@")),
+                new PhoneContainsKeywordsPredicate(List.of("80001234")),
+                new IncomeInRangePredicate(new BigDecimal("1000"), new BigDecimal("1010")),
+                new IncomeInRangePredicate(null, new BigDecimal("1200")));
+
+        for (int size : SIZES) {
+            AddressBook addressBook = Benchmark.generateAddressBook(size);
+            List<Person> persons = addressBook.getPersonList();
+            PersonSearchIndex searchIndex = new PersonSearchIndex();
+            searchIndex.setPersons(persons);
+            ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+            for (Predicate<Person> predicate : predicates) {
+                String name = predicate.getClass().getSimpleName() + ", " + size + " persons";
+                double scanMillis = Benchmark.measureMillis(() -> persons.stream().filter(predicate).count(),
+                        WARMUP_RUNS, MEASURED_RUNS);
+                double indexMillis = Benchmark.measureMillis(() -> searchIndex.find(predicate),
+                        WARMUP_RUNS, MEASURED_RUNS);
+                double filterMillis = Benchmark.measureMillis(() -> model.updateFilteredPersonList(predicate),
+                        WARMUP_RUNS, MEASURED_RUNS);
+
+                Benchmark.report(name + ", scan", scanMillis);
+                Benchmark.report(name + ", index", indexMillis);
+                Benchmark.report(name + ", filtered list", filterMillis);
+                System.out.println("matches: " + searchIndex.find(predicate).get().size());
+            }
+        }
+    }
+}
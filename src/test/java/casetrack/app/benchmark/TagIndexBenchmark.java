@@ -0,0 +1,72 @@
+package casetrack.app.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import casetrack.app.logic.parser.SearchQueryParser;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
+
+/**
+ * Measures how long it takes to filter the person list shown to the user by queries made only of tag searches, which
+ * are looked up in the tag bitmaps of the address book, compared to testing the query on every person, as well as
+ * how long it takes to count the persons with each tag with and without the counts the address book keeps.
+ */
+public class TagIndexBenchmark {
+
+    private static final int SIZE = 200_000;
+    private static final String[] QUERIES = {
+        "tag:caregiver",
+        "tag:caregiver OR tag:disabled",
+        "tag:elderly AND NOT tag:caregiver",
+        "(tag:elderly OR tag:lowIncome) AND NOT (tag:disabled OR tag:unemployed)"
+    };
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    private static int searchCount = 0;
+
+    public static void main(String[] args) throws Exception {
+        AddressBook addressBook = Benchmark.generateAddressBook(SIZE);
+        List<Person> persons = addressBook.getPersonList();
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+        for (String query : QUERIES) {
+            Predicate<Person> predicate = SearchQueryParser.parse(query);
+            double scanMillis = Benchmark.measureMillis(() -> persons.stream().filter(predicate).count(),
+                    WARMUP_RUNS, MEASURED_RUNS);
+            double filterMillis = Benchmark.measureMillis(() -> model.updateFilteredPersonList(uncached(query)),
+                    WARMUP_RUNS, MEASURED_RUNS);
+
+            System.out.println(query + ", " + SIZE + " persons");
+            Benchmark.report("  scan", scanMillis);
+            Benchmark.report("  filtered list", filterMillis);
+            System.out.println("matches: " + model.getFilteredPersonList().size());
+        }
+
+        Benchmark.report("count tags of " + SIZE + " persons, scan", Benchmark.measureMillis(() -> {
+            Map<Tag, Integer> tagCounts = new HashMap<>();
+            for (Person person : persons) {
+                for (Tag tag : person.getTags()) {
+                    tagCounts.merge(tag, 1, Integer::sum);
+                }
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+        Benchmark.report("count tags of " + SIZE + " persons, kept counts",
+                Benchmark.measureMillis(model::getTagCounts, WARMUP_RUNS, MEASURED_RUNS));
+    }
+
+    /**
+     * Returns {@code query} with a tag no person has added, which matches the same persons as {@code query} but is
+     * not equal to any query searched for before, so that the result is not taken from the search cache.
+     */
+    private static Predicate<Person> uncached(String query) throws ParseException {
+        return SearchQueryParser.parse("(" + query + ") OR tag:unused" + searchCount++);
+    }
+}
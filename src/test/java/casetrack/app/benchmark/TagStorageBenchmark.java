@@ -0,0 +1,111 @@
+package casetrack.app.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.model.tag.TagRegistry;
+import casetrack.app.model.tag.TagSet;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Measures the heap taken by the tags of many persons when each person holds a hash set of its own tags, as loading
+ * the address book used to make, and when each person holds the ordinals of interned tags, as well as how long it
+ * takes to make the tags of each person and to filter the persons by tag both ways.
+ */
+public class TagStorageBenchmark {
+
+    private static final int SIZE = 200_000;
+    private static final int DISTINCT_TAGS = 40;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 9;
+
+    public static void main(String[] args) throws Exception {
+        List<List<String>> tagNames = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            tagNames.add(List.of("tag" + (i % DISTINCT_TAGS), "tag" + ((i / DISTINCT_TAGS) % DISTINCT_TAGS),
+                    "tag" + ((i / 7) % DISTINCT_TAGS)));
+        }
+
+        long before = usedHeap();
+        List<Set<Tag>> hashSets = new ArrayList<>(SIZE);
+        for (List<String> names : tagNames) {
+            hashSets.add(toHashSet(names));
+        }
+        long hashSetBytes = usedHeap() - before;
+        hashSets = null;
+
+        before = usedHeap();
+        List<TagSet> tagSets = new ArrayList<>(SIZE);
+        for (List<String> names : tagNames) {
+            tagSets.add(toTagSet(names));
+        }
+        long tagSetBytes = usedHeap() - before;
+        System.out.printf("%-50s %12.1f bytes per person%n", "tags as hash sets of new tags",
+                (double) hashSetBytes / SIZE);
+        System.out.printf("%-50s %12.1f bytes per person%n", "tags as ordinals of interned tags",
+                (double) tagSetBytes / SIZE);
+
+        Benchmark.report("make " + SIZE + " hash sets of new tags", Benchmark.measureMillis(() -> {
+            for (List<String> names : tagNames) {
+                toHashSet(names);
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+        Benchmark.report("make " + SIZE + " sets of interned tags", Benchmark.measureMillis(() -> {
+            for (List<String> names : tagNames) {
+                toTagSet(names);
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+
+        Person template = new PersonBuilder().build();
+        List<Person> persons = new ArrayList<>(SIZE);
+        for (TagSet tags : tagSets) {
+            persons.add(new Person(template.getName(), template.getPhone(), template.getEmail(),
+                    template.getAddress(), template.getIncome(), template.getMedicalInfo(), tags));
+        }
+        List<String> keywords = List.of("tag1", "tag27");
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(keywords);
+        Benchmark.report("filter " + SIZE + " persons by tag, streams", Benchmark.measureMillis(() -> {
+            for (Person person : persons) {
+                keywords.stream().anyMatch(keyword -> person.getTags().stream()
+                        .anyMatch(tag -> tag.tagName.toLowerCase().contains(keyword.toLowerCase())));
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+        Benchmark.report("filter " + SIZE + " persons by tag, ordinals", Benchmark.measureMillis(() -> {
+            for (Person person : persons) {
+                predicate.test(person);
+            }
+        }, WARMUP_RUNS, MEASURED_RUNS));
+    }
+
+    /**
+     * Returns the tags named {@code names} as loading the address book used to make them.
+     */
+    private static Set<Tag> toHashSet(List<String> names) {
+        Set<Tag> tags = new HashSet<>();
+        for (String name : names) {
+            Tag.isValidTagName(name);
+            tags.add(new Tag(name));
+        }
+        return tags;
+    }
+
+    private static TagSet toTagSet(List<String> names) {
+        List<Tag> tags = new ArrayList<>(names.size());
+        for (String name : names) {
+            tags.add(TagRegistry.intern(name));
+        }
+        return TagSet.copyOf(tags);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+}
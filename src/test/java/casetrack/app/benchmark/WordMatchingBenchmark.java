@@ -0,0 +1,79 @@
+package casetrack.app.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import casetrack.app.commons.util.StringUtil;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NameSimilarToKeywordsPredicate;
+import casetrack.app.model.person.NameStartsWithKeywordsPredicate;
+import casetrack.app.model.person.Person;
+
+/**
+ * Measures how long it takes to match a word against the words of a sentence, and how many bytes are allocated
+ * doing so, with {@link StringUtil#containsWordIgnoreCase(String, String)} and with the splitting implementation it
+ * replaced, as well as for testing the name predicates on every person of an address book.
+ */
+public class WordMatchingBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final String[] SENTENCES = {"Patient 12345", "Alex  Yeoh Wei Ming", "Bernice Yu s/o Tan"};
+    private static final String WORD = "yeoh";
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    public static void main(String[] args) throws Exception {
+        List<Person> persons = Benchmark.generateAddressBook(SIZE).getPersonList();
+
+        measure("containsWordIgnoreCase, split", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                containsWordBySplitting(SENTENCES[i % SENTENCES.length], WORD);
+            }
+        });
+        measure("containsWordIgnoreCase, in place", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                StringUtil.containsWordIgnoreCase(SENTENCES[i % SENTENCES.length], WORD);
+            }
+        });
+
+        List<String> keywords = List.of("patient", "12345");
+        measurePredicate("name", persons, new NameContainsKeywordsPredicate(keywords));
+        measurePredicate("name-prefix", persons, new NameStartsWithKeywordsPredicate(keywords));
+        measurePredicate("name-fuzzy", persons, new NameSimilarToKeywordsPredicate(keywords));
+    }
+
+    private static void measurePredicate(String name, List<Person> persons, Predicate<Person> predicate)
+            throws Exception {
+        measure(name + ", " + persons.size() + " persons", () -> {
+            for (Person person : persons) {
+                predicate.test(person);
+            }
+        });
+    }
+
+    /**
+     * Reports the median time taken by {@code task} and the bytes it allocates on each call of the loop it runs.
+     */
+    private static void measure(String name, Benchmark.Task task) throws Exception {
+        Benchmark.report(name, Benchmark.measureMillis(task, WARMUP_RUNS, MEASURED_RUNS));
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        task.run();
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        System.out.printf("%-50s %12.1f bytes per call%n", "", (double) allocated / SIZE);
+    }
+
+    /**
+     * The implementation of {@code StringUtil#containsWordIgnoreCase} before it matched words in place.
+     */
+    private static boolean containsWordBySplitting(String sentence, String word) {
+        String preppedWord = word.trim();
+        if (preppedWord.isEmpty() || preppedWord.split("\\s+").length != 1) {
+            throw new IllegalArgumentException();
+        }
+        return Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+    }
+}
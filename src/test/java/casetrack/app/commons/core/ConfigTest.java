@@ -1,6 +1,7 @@
 package casetrack.app.commons.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,7 +13,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", parallelLoadEnabled=" + config.isParallelLoadEnabled()
+                + ", lazyLoadEnabled=" + config.isLazyLoadEnabled()
+                + ", compressionEnabled=" + config.isCompressionEnabled()
+                + ", durabilityLevel=" + config.getDurabilityLevel() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -21,6 +26,14 @@ public class ConfigTest {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertTrue(defaultConfig.equals(defaultConfig));
+
+        Config serialLoadConfig = new Config();
+        serialLoadConfig.setParallelLoadEnabled(false);
+        assertFalse(defaultConfig.equals(serialLoadConfig));
+
+        Config noDurabilityConfig = new Config();
+        noDurabilityConfig.setDurabilityLevel(DurabilityLevel.NONE);
+        assertFalse(defaultConfig.equals(noDurabilityConfig));
     }
 
 
@@ -1,13 +1,38 @@
 package casetrack.app.commons.util;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.core.DurabilityLevel;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void resetDurabilityLevel() {
+        FileUtil.setDurabilityLevel(DurabilityLevel.FSYNC);
+    }
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +45,86 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_allDurabilityLevels_fileReplaced() throws Exception {
+        for (DurabilityLevel durabilityLevel : DurabilityLevel.values()) {
+            FileUtil.setDurabilityLevel(durabilityLevel);
+            Path file = testFolder.resolve(durabilityLevel + ".txt");
+
+            FileUtil.writeToFile(file, "a longer first version");
+            FileUtil.writeToFile(file, "second");
+            assertEquals("second", FileUtil.readFromFile(file));
+
+            FileUtil.appendToFile(file, " and third");
+            assertEquals("second and third", FileUtil.readFromFile(file));
+        }
+
+        // No temporary files are left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(DurabilityLevel.values().length, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_leftoverTempFile_fileReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(testFolder.resolve("file.txt.tmp"), "partially written by a crashed save");
+
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_contentWriterThrows_fileKeptAndTempFileDeleted() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, out -> {
+            out.write("partially written".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("write failed");
+        }));
+        assertThrows(IllegalStateException.class, () -> FileUtil.writeToFile(file, out -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void openDecompressedInputStream_plainAndCompressedFiles_sameContents() throws Exception {
+        byte[] content = "some repetitive text, some repetitive text".getBytes(StandardCharsets.UTF_8);
+        Path plainFile = testFolder.resolve("plain.txt");
+        Path compressedFile = testFolder.resolve("compressed.txt");
+        FileUtil.writeToFile(plainFile, content);
+        FileUtil.writeToFile(compressedFile, out -> {
+            try (OutputStream compressedOut = new GZIPOutputStream(out)) {
+                compressedOut.write(content);
+            }
+        });
+
+        for (Path file : new Path[] {plainFile, compressedFile}) {
+            try (InputStream in = FileUtil.openDecompressedInputStream(file)) {
+                assertArrayEquals(content, in.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void openDecompressedInputStream_emptyFile_emptyStream() throws Exception {
+        Path file = testFolder.resolve("empty.txt");
+        FileUtil.writeToFile(file, new byte[0]);
+        try (InputStream in = FileUtil.openDecompressedInputStream(file)) {
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void setDurabilityLevel_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FileUtil.setDurabilityLevel(null));
+    }
+
 }
@@ -0,0 +1,101 @@
+package casetrack.app.commons.util;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_noElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(List.of(), PersistentList.empty());
+    }
+
+    @Test
+    public void copyOf_collection_sameElementsInOrder() {
+        assertEquals(List.of("a", "b", "c"), PersistentList.copyOf(List.of("a", "b", "c")));
+        assertTrue(PersistentList.copyOf(List.of()).isEmpty());
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void plusWithMinus_oldListUnchanged() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "b", "c", "d"), list.plus("d"));
+        assertEquals(List.of("x", "a", "b", "c"), list.plus(0, "x"));
+        assertEquals(List.of("a", "x", "c"), list.with(1, "x"));
+        assertEquals(List.of("a", "c"), list.minus(1));
+        assertEquals(List.of(), PersistentList.copyOf(List.of("a")).minus(0));
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void plusWithMinus_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void randomChanges_sameElementsAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                list = list.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+}
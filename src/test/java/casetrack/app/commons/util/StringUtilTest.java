@@ -1,10 +1,12 @@
 package casetrack.app.commons.util;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -121,6 +123,66 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by whitespace other than spaces
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\tbbb", "aaabbb"));
+    }
+
+    @Test
+    public void containsWordIgnoreCase_wordWithTab_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.containsWordIgnoreCase("aaa bbb", "aaa\tbbb"));
+    }
+
+    //---------------- Tests for splitWords --------------------------------------
+
+    @Test
+    public void splitWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.splitWords(null));
+    }
+
+    @Test
+    public void splitWords_validInputs_correctResult() {
+        assertEquals(List.of(), StringUtil.splitWords("")); // Boundary case
+        assertEquals(List.of(), StringUtil.splitWords(" \t "));
+        assertEquals(List.of("ABc"), StringUtil.splitWords("ABc"));
+        assertEquals(List.of("ABc", "def", "g@1"), StringUtil.splitWords("  ABc   def\tg@1 "));
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_wordsEqualIgnoringCase_sameFoldedWord() {
+        assertEquals(StringUtil.foldCase("aBc"), StringUtil.foldCase("AbC"));
+        assertEquals(StringUtil.foldCase("Straße"), StringUtil.foldCase("STRAßE"));
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        // Empty strings (boundary cases)
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("abc", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+
+        // Same strings, and strings differing only in case
+        assertEquals(0, StringUtil.getEditDistance("abc", "abc"));
+        assertEquals(1, StringUtil.getEditDistance("abc", "aBc"));
+
+        // Insertion, deletion and replacement
+        assertEquals(1, StringUtil.getEditDistance("Tan", "Tang"));
+        assertEquals(1, StringUtil.getEditDistance("Tang", "Tan"));
+        assertEquals(2, StringUtil.getEditDistance("muhammad", "mohammed"));
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
     }
 
     //---------------- Tests for getDetails --------------------------------------
@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,9 +22,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import casetrack.app.logic.commands.AddCommand;
 import casetrack.app.logic.commands.CommandResult;
+import casetrack.app.logic.commands.HelpCommand;
 import casetrack.app.logic.commands.ListCommand;
 import casetrack.app.logic.commands.exceptions.CommandException;
 import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.AddressBookChange;
 import casetrack.app.model.Model;
 import casetrack.app.model.ModelManager;
 import casetrack.app.model.ReadOnlyAddressBook;
@@ -83,6 +86,29 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_storageNotCalled() throws Exception {
+        // Inject LogicManager with an AddressBookStorage that fails on any kind of save
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        throw new AssertionError("Read-only commands should not save the address book.");
+                    }
+
+                    @Override
+                    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook,
+                            List<AddressBookChange> changes) {
+                        throw new AssertionError("Read-only commands should not save the address book.");
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
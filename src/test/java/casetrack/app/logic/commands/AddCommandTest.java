@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,10 +20,13 @@ import casetrack.app.commons.core.GuiSettings;
 import casetrack.app.logic.Messages;
 import casetrack.app.logic.commands.exceptions.CommandException;
 import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
 import casetrack.app.model.Model;
 import casetrack.app.model.ReadOnlyAddressBook;
 import casetrack.app.model.ReadOnlyUserPrefs;
+import casetrack.app.model.person.Note;
 import casetrack.app.model.person.Person;
+import casetrack.app.model.tag.Tag;
 import casetrack.app.testutil.PersonBuilder;
 import javafx.collections.ObservableList;
 
@@ -143,11 +148,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePerson(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPerson(long id, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person addNote(long id, Note note) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person editNote(long id, int noteIndex, Note note) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person deleteNote(long id, int noteIndex) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Tag, Integer> getTagCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AddressBookChange> takeUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
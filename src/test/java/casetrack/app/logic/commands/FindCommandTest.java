@@ -2,7 +2,10 @@ package casetrack.app.logic.commands;
 
 import static casetrack.app.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static casetrack.app.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
 import static casetrack.app.testutil.TypicalPersons.CARL;
+import static casetrack.app.testutil.TypicalPersons.DANIEL;
 import static casetrack.app.testutil.TypicalPersons.ELLE;
 import static casetrack.app.testutil.TypicalPersons.FIONA;
 import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
@@ -12,13 +15,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.model.Model;
 import casetrack.app.model.ModelManager;
 import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.AndPredicate;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NameSimilarToKeywordsPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -80,6 +94,62 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_noteKeywords_personsRankedByRelevance() {
+        Person carl = CARL.addNote(new Note("Dialysis on Monday, then lunch with her daughter at the hawker centre"));
+        Person elle = ELLE.addNote(new Note("Dialysis")).addNote(new Note("Missed dialysis"));
+        for (Model m : List.of(model, expectedModel)) {
+            m.setPerson(CARL, carl);
+            m.setPerson(ELLE, elle);
+        }
+
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(List.of("dialysis"));
+        expectedModel.updateFilteredPersonList(predicate);
+        CommandResult expectedCommandResult = new CommandResult(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2),
+                new DetailPanelInstruction(null));
+        assertCommandSuccess(new FindCommand(predicate), model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(elle, carl), model.getFilteredPersonList());
+
+        // Ranking is kept up to date when notes are edited
+        Person editedCarl = carl.editNote(0, new Note("Dialysis")).addNote(new Note("Dialysis dialysis"));
+        model.setPerson(carl, editedCarl);
+        assertEquals(Arrays.asList(editedCarl, elle), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_similarNameKeywords_personsRankedByDistance() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("MEYER"));
+        expectedModel.updateFilteredPersonList(predicate);
+        CommandResult expectedCommandResult = new CommandResult(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3),
+                new DetailPanelInstruction(null));
+        assertCommandSuccess(new FindCommand(predicate), model, expectedCommandResult, expectedModel);
+        // Meyer is an exact match, while Meier is one letter off
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        // Ranking is kept up to date when names are edited
+        Person editedElle = new PersonBuilder(ELLE).withName("Elle Meijer").build();
+        model.setPerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_query_personsFound() {
+        Person carl = CARL.addNote(new Note("Dialysis on Monday"));
+        for (Model m : List.of(model, expectedModel)) {
+            m.setPerson(CARL, carl);
+        }
+
+        Predicate<Person> predicate = new OrPredicate(List.of(
+                new AndPredicate(List.of(new TagContainsKeywordsPredicate(List.of("friends")),
+                        new NotPredicate(new NameContainsKeywordsPredicate(List.of("meier"))))),
+                new NoteContainsKeywordsPredicate(List.of("dialysis"))));
+        expectedModel.updateFilteredPersonList(predicate);
+        CommandResult expectedCommandResult = new CommandResult(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2),
+                new DetailPanelInstruction(null));
+        assertCommandSuccess(new FindCommand(predicate), model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(ALICE, carl), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,45 @@
+package casetrack.app.logic.commands;
+
+import static casetrack.app.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.Model;
+import casetrack.app.model.ModelManager;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for TagsCommand.
+ */
+public class TagsCommandTest {
+
+    @Test
+    public void execute_emptyAddressBook_showsNoTags() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        assertCommandSuccess(new TagsCommand(), model, TagsCommand.MESSAGE_NO_TAGS, expectedModel);
+    }
+
+    @Test
+    public void execute_typicalAddressBook_showsCountsSortedByTag() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(TagsCommand.MESSAGE_SUCCESS,
+                "friends: 3 patients\nowesMoney: 1 patient");
+        assertCommandSuccess(new TagsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_personsWithoutTags_notCounted() {
+        AddressBook addressBook = new AddressBook();
+        Person untagged = new PersonBuilder().withTags().build();
+        addressBook.addPerson(untagged);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+        assertCommandSuccess(new TagsCommand(), model, TagsCommand.MESSAGE_NO_TAGS, expectedModel);
+    }
+}
@@ -23,6 +23,7 @@ import casetrack.app.logic.commands.FindCommand;
 import casetrack.app.logic.commands.HelpCommand;
 import casetrack.app.logic.commands.ListCommand;
 import casetrack.app.logic.commands.NoteCommand;
+import casetrack.app.logic.commands.TagsCommand;
 import casetrack.app.logic.commands.ViewDetailsCommand;
 import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
@@ -97,6 +98,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_tags() throws Exception {
+        assertTrue(parser.parseCommand(TagsCommand.COMMAND_WORD) instanceof TagsCommand);
+        assertTrue(parser.parseCommand(TagsCommand.COMMAND_WORD + " 3") instanceof TagsCommand);
+    }
+
     @Test
     public void parseCommand_note() throws Exception {
         Note note = new Note("Follow-up in 2 weeks");
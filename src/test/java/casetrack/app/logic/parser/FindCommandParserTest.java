@@ -4,13 +4,21 @@ import static casetrack.app.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static casetrack.app.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static casetrack.app.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.logic.commands.FindCommand;
+import casetrack.app.model.person.AndPredicate;
 import casetrack.app.model.person.EmailContainsKeywordsPredicate;
+import casetrack.app.model.person.IncomeInRangePredicate;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NameSimilarToKeywordsPredicate;
+import casetrack.app.model.person.NameStartsWithKeywordsPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
 import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
 import casetrack.app.model.person.TagContainsKeywordsPredicate;
 
@@ -59,6 +67,50 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Name Alice Bob", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validNamePrefixArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameStartsWithKeywordsPredicate(Arrays.asList("Al", "b")));
+        assertParseSuccess(parser, "name-prefix Al b", expectedFindCommand);
+        assertParseSuccess(parser, " \n NAME-PREFIX \n Al \t b  \t", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_validNameFuzzyArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameSimilarToKeywordsPredicate(Arrays.asList("Mohamed", "Tan")));
+        assertParseSuccess(parser, "name-fuzzy Mohamed Tan", expectedFindCommand);
+        assertParseSuccess(parser, " \n Name-Fuzzy \n Mohamed \t Tan  \t", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_validIncomeArgs_returnsFindCommand() {
+        assertParseSuccess(parser, "income 500..1200",
+                new FindCommand(new IncomeInRangePredicate(new BigDecimal("500"), new BigDecimal("1200"))));
+        assertParseSuccess(parser, "INCOME  .. 1200 ", new FindCommand(new IncomeInRangePredicate(null,
+                new BigDecimal("1200"))));
+    }
+
+    @Test
+    public void parse_invalidIncomeArgs_throwsParseException() {
+        assertParseFailure(parser, "income 1200", ParserUtil.MESSAGE_INVALID_INCOME_RANGE);
+        assertParseFailure(parser, "income", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validQuery_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new AndPredicate(List.of(
+                new TagContainsKeywordsPredicate(List.of("elderly")),
+                new NotPredicate(new NameContainsKeywordsPredicate(List.of("tan"))))));
+        assertParseSuccess(parser, " tag:elderly AND NOT name:tan ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "tag:elderly AND",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validArgsWithDifferentCasing_returnsFindCommand() {
         // test case insensitive search type
@@ -115,4 +167,21 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Tag friend colleague", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validNoteArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NoteContainsKeywordsPredicate(Arrays.asList("home visit", "dialysis")));
+        assertParseSuccess(parser, "note \"home visit\" dialysis", expectedFindCommand);
+        assertParseSuccess(parser, " NOTE  \" home visit \"\tdialysis ", expectedFindCommand);
+
+        // unterminated phrase
+        assertParseSuccess(parser, "note dialysis \"home visit",
+                new FindCommand(new NoteContainsKeywordsPredicate(Arrays.asList("dialysis", "home visit"))));
+    }
+
+    @Test
+    public void parse_noteWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, "note \"\"",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
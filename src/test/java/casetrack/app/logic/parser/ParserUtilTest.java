@@ -6,6 +6,7 @@ import static casetrack.app.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -17,6 +18,7 @@ import casetrack.app.logic.parser.exceptions.ParseException;
 import casetrack.app.model.person.Address;
 import casetrack.app.model.person.Email;
 import casetrack.app.model.person.Income;
+import casetrack.app.model.person.IncomeInRangePredicate;
 import casetrack.app.model.person.MedicalInfo;
 import casetrack.app.model.person.Name;
 import casetrack.app.model.person.Phone;
@@ -223,6 +225,29 @@ public class ParserUtilTest {
         assertEquals(expectedIncome, ParserUtil.parseIncome(incomeWithWhitespace));
     }
 
+    @Test
+    public void parseIncomeRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseIncomeRange(null));
+    }
+
+    @Test
+    public void parseIncomeRange_invalidValue_throwsParseException() {
+        for (String range : new String[] {"1200", "..", "a..1200", "500..-1", "1200..500", "500-1200"}) {
+            assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INCOME_RANGE, ()
+                -> ParserUtil.parseIncomeRange(range));
+        }
+    }
+
+    @Test
+    public void parseIncomeRange_validValue_returnsIncomeInRangePredicate() throws Exception {
+        assertEquals(new IncomeInRangePredicate(new BigDecimal("500.50"), new BigDecimal("1200")),
+                ParserUtil.parseIncomeRange(WHITESPACE + "500.50 .. 1200" + WHITESPACE));
+        assertEquals(new IncomeInRangePredicate(new BigDecimal("500"), new BigDecimal("500")),
+                ParserUtil.parseIncomeRange("500..500"));
+        assertEquals(new IncomeInRangePredicate(null, new BigDecimal("1200")), ParserUtil.parseIncomeRange("..1200"));
+        assertEquals(new IncomeInRangePredicate(new BigDecimal("500"), null), ParserUtil.parseIncomeRange("500.."));
+    }
+
     @Test
     public void parseMedicalInfo_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseMedicalInfo(null));
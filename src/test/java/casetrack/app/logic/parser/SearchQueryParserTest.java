@@ -0,0 +1,88 @@
+package casetrack.app.logic.parser;
+
+import static casetrack.app.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.logic.commands.FindCommand;
+import casetrack.app.logic.parser.exceptions.ParseException;
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.Income;
+import casetrack.app.model.person.IncomeComparisonPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate.Operator;
+import casetrack.app.model.person.IncomeInRangePredicate;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+
+public class SearchQueryParserTest {
+
+    private static final String MESSAGE_INVALID_QUERY =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    private final NameContainsKeywordsPredicate nameTan = new NameContainsKeywordsPredicate(List.of("tan"));
+    private final TagContainsKeywordsPredicate tagElderly = new TagContainsKeywordsPredicate(List.of("elderly"));
+    private final IncomeComparisonPredicate incomeBelow1500 =
+            new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1500"));
+    private final NoteContainsKeywordsPredicate noteHousing =
+            new NoteContainsKeywordsPredicate(List.of("housing grant"));
+
+    @Test
+    public void parse_singleClause_clausePredicate() throws Exception {
+        assertEquals(nameTan, SearchQueryParser.parse("name:tan"));
+        assertEquals(new NameContainsKeywordsPredicate(List.of("tan", "lim")),
+                SearchQueryParser.parse("NAME:\"tan lim\""));
+        assertEquals(noteHousing, SearchQueryParser.parse("note:\" housing grant \""));
+    }
+
+    @Test
+    public void parse_incomeComparisons_incomeComparisonPredicates() throws Exception {
+        for (Operator operator : Operator.values()) {
+            assertEquals(new IncomeComparisonPredicate(operator, new BigDecimal("1500.50")),
+                    SearchQueryParser.parse("income" + operator.getSymbol() + "1500.50"));
+        }
+        assertEquals(new IncomeComparisonPredicate(Operator.EQUAL_TO, new BigDecimal("0")),
+                SearchQueryParser.parse("income:0"));
+        assertEquals(new IncomeInRangePredicate(new BigDecimal("500"), null), SearchQueryParser.parse("income:500.."));
+    }
+
+    @Test
+    public void parse_operators_notBeforeAndBeforeOr() throws Exception {
+        assertEquals(new OrPredicate(List.of(new AndPredicate(List.of(nameTan, tagElderly, incomeBelow1500)),
+                        noteHousing)),
+                SearchQueryParser.parse("name:tan AND tag:elderly and income<1500 OR note:\"housing grant\""));
+        assertEquals(new OrPredicate(List.of(nameTan, new AndPredicate(List.of(tagElderly,
+                        new NotPredicate(incomeBelow1500))))),
+                SearchQueryParser.parse("name:tan OR tag:elderly AND NOT income<1500"));
+        assertEquals(new NotPredicate(new NotPredicate(nameTan)), SearchQueryParser.parse("not NOT name:tan"));
+    }
+
+    @Test
+    public void parse_parentheses_grouped() throws Exception {
+        assertEquals(new AndPredicate(List.of(new OrPredicate(List.of(nameTan, tagElderly)), incomeBelow1500)),
+                SearchQueryParser.parse("(name:tan OR tag:elderly) AND income<1500"));
+        assertEquals(new NotPredicate(new OrPredicate(List.of(nameTan, tagElderly))),
+                SearchQueryParser.parse("NOT(name:tan OR tag:elderly)"));
+        assertEquals(nameTan, SearchQueryParser.parse("((name:tan))"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        for (String query : List.of("", "tan", "name:tan tag:elderly", "name:tan AND", "OR name:tan",
+                "(name:tan", "name:tan)", "()", "address:clementi", "name<tan", "name:\"\"", "note:\"housing",
+                "NOT")) {
+            assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> SearchQueryParser.parse(query));
+        }
+        assertThrows(ParseException.class, Income.MESSAGE_CONSTRAINTS, () -> SearchQueryParser.parse("income<-1"));
+        assertThrows(ParseException.class, Income.MESSAGE_CONSTRAINTS, () -> SearchQueryParser.parse("income>a"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INCOME_RANGE, () -> SearchQueryParser.parse(
+                "income:900..500"));
+    }
+}
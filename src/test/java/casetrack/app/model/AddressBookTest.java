@@ -4,20 +4,28 @@ import static casetrack.app.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static casetrack.app.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.CARL;
+import static casetrack.app.testutil.TypicalPersons.DANIEL;
 import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.model.person.Person;
 import casetrack.app.model.person.exceptions.DuplicatePersonException;
+import casetrack.app.model.person.exceptions.PersonNotFoundException;
+import casetrack.app.model.tag.Tag;
 import casetrack.app.testutil.PersonBuilder;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -78,6 +86,89 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void addPerson_personWithoutId_givenUnusedId() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person storedAlice = addressBook.getPersonList().get(0);
+        Person storedBenson = addressBook.getPersonList().get(1);
+
+        assertEquals(ALICE, storedAlice);
+        assertNotEquals(Person.NO_ID, storedAlice.getId());
+        assertNotEquals(storedAlice.getId(), storedBenson.getId());
+        assertEquals(Optional.of(storedBenson), addressBook.getPerson(storedBenson.getId()));
+    }
+
+    @Test
+    public void addPerson_personWithId_idKeptUnlessTaken() {
+        addressBook.addPerson(ALICE.withId(7));
+        addressBook.addPerson(BENSON.withId(7));
+        addressBook.addPerson(CARL);
+
+        assertEquals(7, addressBook.getPersonList().get(0).getId());
+        assertEquals(8, addressBook.getPersonList().get(1).getId());
+        assertEquals(9, addressBook.getPersonList().get(2).getId());
+    }
+
+    @Test
+    public void setPersons_duplicateIds_givenUnusedIds() {
+        addressBook.setPersons(List.of(ALICE.withId(3), BENSON.withId(3), CARL));
+
+        assertEquals(3, addressBook.getPersonList().get(0).getId());
+        assertEquals(4, addressBook.getPersonList().get(1).getId());
+        assertEquals(5, addressBook.getPersonList().get(2).getId());
+        assertEquals(Optional.empty(), addressBook.getPerson(6));
+    }
+
+    @Test
+    public void setPerson_byId_replacesPersonAndKeepsId() {
+        addressBook.addPerson(ALICE);
+        long id = addressBook.getPersonList().get(0).getId();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        addressBook.setPerson(id, editedAlice);
+        assertEquals(Optional.of(editedAlice), addressBook.getPerson(id));
+        assertEquals(id, addressBook.getPersonList().get(0).getId());
+
+        // edited by object, the ID is kept too
+        addressBook.setPerson(editedAlice, BENSON);
+        assertEquals(Optional.of(BENSON), addressBook.getPerson(id));
+    }
+
+    @Test
+    public void setPersonRemovePerson_unknownId_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> addressBook.setPerson(1, ALICE));
+        assertThrows(PersonNotFoundException.class, () -> addressBook.removePerson(1));
+    }
+
+    @Test
+    public void removePerson_byId_removesPerson() {
+        addressBook.addPerson(ALICE);
+        long id = addressBook.getPersonList().get(0).getId();
+        addressBook.removePerson(id);
+
+        assertFalse(addressBook.hasPerson(ALICE));
+        assertEquals(Optional.empty(), addressBook.getPerson(id));
+    }
+
+    @Test
+    public void getTagCounts_afterAddEditAndRemove_countsPersonsWithEachTag() {
+        Tag friends = new Tag("friends");
+        Tag owesMoney = new Tag("owesMoney");
+        addressBook.setPersons(List.of(ALICE, BENSON, DANIEL));
+        assertEquals(3, addressBook.getTagCount(friends));
+        assertEquals(Map.of(friends, 3, owesMoney, 1), addressBook.getTagCounts());
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build());
+        assertEquals(2, addressBook.getTagCount(friends));
+        assertEquals(0, addressBook.getTagCount(owesMoney));
+        assertEquals(Map.of(friends, 2, new Tag(VALID_TAG_HUSBAND), 1), addressBook.getTagCounts());
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(new PersonBuilder().withName("Dan").withTags(VALID_TAG_HUSBAND).build());
+        assertEquals(Map.of(friends, 1, new Tag(VALID_TAG_HUSBAND), 2), addressBook.getTagCounts());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
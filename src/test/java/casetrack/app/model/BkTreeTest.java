@@ -0,0 +1,69 @@
+package casetrack.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void forEachWithin_randomWords_sameAsComparingEveryWord() {
+        Random random = new Random(42);
+        List<String> words = random.ints(500, 1, 8)
+                .mapToObj(length -> randomWord(random, length))
+                .toList();
+        words.forEach(tree::add);
+
+        for (String query : List.of("ab", "abc", "bacd", "ddddd", "cabbage")) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String word : words) {
+                    int distance = StringUtil.getEditDistance(query, word);
+                    if (distance <= maxDistance) {
+                        expected.put(word, distance);
+                    }
+                }
+                assertEquals(expected, findWithin(query, maxDistance), query + " " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void add_duplicateWord_foundOnce() {
+        tree.add("tan");
+        tree.add("tan");
+        tree.add("tang");
+        assertEquals(Map.of("tan", 0, "tang", 1), findWithin("tan", 1));
+    }
+
+    @Test
+    public void clear_noWordsFound() {
+        tree.add("tan");
+        tree.clear();
+        assertEquals(Map.of(), findWithin("tan", 2));
+    }
+
+    private Map<String, Integer> findWithin(String word, int maxDistance) {
+        Map<String, Integer> found = new HashMap<>();
+        tree.forEachWithin(word, maxDistance, (foundWord, distance) -> assertEquals(null,
+                found.put(foundWord, distance)));
+        return found;
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
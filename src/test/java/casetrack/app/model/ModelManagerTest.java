@@ -6,17 +6,23 @@ import static casetrack.app.testutil.TypicalPersons.ALICE;
 import static casetrack.app.testutil.TypicalPersons.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.commons.core.GuiSettings;
+import casetrack.app.model.AddressBookChange.NoteOperation;
 import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
 import casetrack.app.testutil.AddressBookBuilder;
+import casetrack.app.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +94,44 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void takeUnsavedChanges_afterMutations_returnsChangesInOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.setPerson(ALICE, BENSON);
+        modelManager.deletePerson(BENSON);
+        modelManager.setAddressBook(new AddressBook());
+
+        List<AddressBookChange> expectedChanges = List.of(AddressBookChange.added(ALICE),
+                AddressBookChange.edited(ALICE, BENSON), AddressBookChange.deleted(BENSON),
+                AddressBookChange.reset());
+        assertEquals(expectedChanges, modelManager.takeUnsavedChanges());
+
+        // changes are only returned once
+        assertTrue(modelManager.takeUnsavedChanges().isEmpty());
+    }
+
+    @Test
+    public void addEditDeleteNote_noteChangesRecorded() {
+        modelManager.addPerson(ALICE);
+        long id = modelManager.getAddressBook().getPersonList().get(0).getId();
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+
+        Person withNote = modelManager.addNote(id, new Note("First visit"));
+        Person withEditedNote = modelManager.editNote(id, 0, new Note("First visit, rescheduled"));
+        Person withoutNote = modelManager.deleteNote(id, 0);
+
+        assertEquals(List.of(new Note("First visit")), withNote.getNotes());
+        assertEquals(List.of(new Note("First visit, rescheduled")), withEditedNote.getNotes());
+        assertEquals(List.of(), withoutNote.getNotes());
+        assertSame(withoutNote, modelManager.getAddressBook().getPersonList().get(0));
+
+        List<AddressBookChange> expectedChanges = List.of(AddressBookChange.added(alice),
+                AddressBookChange.noteChanged(alice, withNote, NoteOperation.ADD, 0),
+                AddressBookChange.noteChanged(withNote, withEditedNote, NoteOperation.EDIT, 0),
+                AddressBookChange.noteChanged(withEditedNote, withoutNote, NoteOperation.DELETE, 0));
+        assertEquals(expectedChanges, modelManager.takeUnsavedChanges());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -129,4 +173,53 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void updateFilteredPersonList_personsChanged_filterKept() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson", "Carl")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // Edited persons are filtered by the same predicate
+        Person carl = new PersonBuilder(ALICE).withName("Carl").build();
+        modelManager.setPerson(ALICE, carl);
+        assertEquals(List.of(carl, BENSON), modelManager.getFilteredPersonList());
+        Person bob = new PersonBuilder(BENSON).withName("Bob").build();
+        modelManager.setPerson(BENSON, bob);
+        assertEquals(List.of(carl), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(carl);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Bob")));
+        assertEquals(List.of(bob), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameSearchRepeated_sameResult() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameSearchAfterChange_resultUpdated() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+
+        // Adding a person shows all persons, so the search is repeated after the address book has changed
+        Person otherBenson = new PersonBuilder().withName("Benson Tan").withPhone("81234567").build();
+        modelManager.addPerson(otherBenson);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(BENSON, otherBenson), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(otherBenson), modelManager.getFilteredPersonList());
+    }
 }
@@ -0,0 +1,109 @@
+package casetrack.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.AddressBookChange.NoteOperation;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.NoteContainsKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class NoteSearchIndexTest {
+
+    private static final Person DIALYSIS_TWICE = new PersonBuilder().withName("Alice")
+            .withNotes(new Note("Dialysis on Monday"), new Note("Dialysis again, home visit needed")).build();
+    private static final Person DIALYSIS_ONCE = new PersonBuilder().withName("Bob")
+            .withNotes(new Note("Dialysis follow up at the clinic, then a long discussion about housing")).build();
+    private static final Person HOME_VISIT = new PersonBuilder().withName("Carl")
+            .withNotes(new Note("Home visit"), new Note("Visit home again next week")).build();
+    private static final Person NO_NOTES = new PersonBuilder().withName("Daniel").build();
+
+    private final NoteSearchIndex searchIndex = new NoteSearchIndex();
+
+    @Test
+    public void search_sameMatchesAsPredicate() {
+        List<Person> persons = List.of(DIALYSIS_TWICE, DIALYSIS_ONCE, HOME_VISIT, NO_NOTES);
+        searchIndex.setPersons(persons);
+
+        for (List<String> keywords : List.of(List.of("dialysis"), List.of("home visit"), List.of("visit", "clinic"),
+                List.of("visit home"), List.of("the"), List.of("monday home"), List.of("unknown"))) {
+            NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(keywords);
+            Set<Person> expected = Set.copyOf(persons.stream().filter(predicate).toList());
+            assertEquals(expected, Set.copyOf(searchIndex.search(predicate).keySet()), keywords.toString());
+        }
+    }
+
+    @Test
+    public void search_moreFrequentTerm_rankedHigher() {
+        searchIndex.setPersons(List.of(DIALYSIS_TWICE, DIALYSIS_ONCE, HOME_VISIT, NO_NOTES));
+        Map<Person, Double> scores = searchIndex.search(new NoteContainsKeywordsPredicate(List.of("dialysis")));
+        assertTrue(scores.get(DIALYSIS_TWICE) > scores.get(DIALYSIS_ONCE));
+    }
+
+    @Test
+    public void search_rarerTerm_rankedHigher() {
+        searchIndex.setPersons(List.of(DIALYSIS_TWICE, DIALYSIS_ONCE, HOME_VISIT, NO_NOTES));
+        // "clinic" is only in the notes of one person, while "visit" is in the notes of two
+        Map<Person, Double> scores = searchIndex.search(new NoteContainsKeywordsPredicate(List.of("visit", "clinic")));
+        assertTrue(scores.get(DIALYSIS_ONCE) > scores.get(DIALYSIS_TWICE));
+    }
+
+    @Test
+    public void addAndRemove_indexUpdated() {
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(List.of("dialysis"));
+        searchIndex.add(DIALYSIS_TWICE);
+        searchIndex.add(HOME_VISIT);
+        assertEquals(Set.of(DIALYSIS_TWICE), searchIndex.search(predicate).keySet());
+
+        Person editedPerson = DIALYSIS_TWICE.removeNote(0).removeNote(0);
+        searchIndex.remove(DIALYSIS_TWICE);
+        searchIndex.add(editedPerson);
+        assertTrue(searchIndex.search(predicate).isEmpty());
+
+        searchIndex.add(DIALYSIS_ONCE);
+        assertEquals(Set.of(DIALYSIS_ONCE), searchIndex.search(predicate).keySet());
+    }
+
+    @Test
+    public void updateNote_sameScoresAsIndexBuiltAgain() {
+        searchIndex.setPersons(List.of(DIALYSIS_TWICE, HOME_VISIT));
+        Person added = DIALYSIS_TWICE.addNote(new Note("Home visit on Friday"));
+        searchIndex.updateNote(DIALYSIS_TWICE, added, NoteOperation.ADD, 2);
+        assertSameScores(List.of(added, HOME_VISIT));
+
+        Person edited = added.editNote(0, new Note("Visit home after dialysis"));
+        searchIndex.updateNote(added, edited, NoteOperation.EDIT, 0);
+        assertSameScores(List.of(edited, HOME_VISIT));
+
+        // The notes after the deleted note are no longer next to the note before it
+        Person deleted = edited.removeNote(1);
+        searchIndex.updateNote(edited, deleted, NoteOperation.DELETE, 1);
+        assertSameScores(List.of(deleted, HOME_VISIT));
+
+        Person homeVisitDeleted = HOME_VISIT.removeNote(0);
+        searchIndex.updateNote(HOME_VISIT, homeVisitDeleted, NoteOperation.DELETE, 0);
+        Person homeVisitAdded = homeVisitDeleted.addNote(new Note("Dialysis"));
+        searchIndex.updateNote(homeVisitDeleted, homeVisitAdded, NoteOperation.ADD, 1);
+        assertSameScores(List.of(deleted, homeVisitAdded));
+    }
+
+    private void assertSameScores(List<Person> persons) {
+        NoteSearchIndex expectedIndex = new NoteSearchIndex();
+        expectedIndex.setPersons(persons);
+        for (List<String> keywords : List.of(List.of("dialysis"), List.of("home visit"), List.of("visit home"),
+                List.of("friday"), List.of("again visit"), List.of("monday dialysis"))) {
+            NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(keywords);
+            // Copied since identity maps also compare the scores by reference
+            assertEquals(Map.copyOf(expectedIndex.search(predicate)), Map.copyOf(searchIndex.search(predicate)),
+                    keywords.toString());
+        }
+    }
+
+}
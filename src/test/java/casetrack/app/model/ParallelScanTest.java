@@ -0,0 +1,51 @@
+package casetrack.app.model;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.testutil.PersonBuilder;
+
+public class ParallelScanTest {
+
+    @Test
+    public void isWorthwhile_smallList_returnsFalse() {
+        assertFalse(ParallelScan.isWorthwhile(0));
+        assertFalse(ParallelScan.isWorthwhile(100));
+    }
+
+    @Test
+    public void find_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelScan.find(null, unused -> true));
+        assertThrows(NullPointerException.class, () -> ParallelScan.find(List.of(), null));
+    }
+
+    @Test
+    public void find_emptyList_noMatches() {
+        assertTrue(ParallelScan.find(List.of(), unused -> true).isEmpty());
+    }
+
+    @Test
+    public void find_listOfManyChunks_sameMatchesAsSerialScan() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            persons.add(new PersonBuilder().withName("Patient " + i).withPhone(String.valueOf(80000000 + i))
+                    .withTags(i % 3 == 0 ? "elderly" : "caregiver").build());
+        }
+        Predicate<Person> predicate = new TagContainsKeywordsPredicate(List.of("elderly"));
+
+        Set<Person> matches = ParallelScan.find(persons, predicate);
+        assertEquals(3_334, matches.size());
+        assertTrue(persons.stream().filter(predicate).allMatch(matches::contains));
+    }
+}
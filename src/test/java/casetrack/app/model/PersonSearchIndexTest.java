@@ -0,0 +1,148 @@
+package casetrack.app.model;
+
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.DANIEL;
+import static casetrack.app.testutil.TypicalPersons.ELLE;
+import static casetrack.app.testutil.TypicalPersons.getTypicalPersons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.EmailContainsKeywordsPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate.Operator;
+import casetrack.app.model.person.IncomeInRangePredicate;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NameSimilarToKeywordsPredicate;
+import casetrack.app.model.person.NameStartsWithKeywordsPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.PhoneContainsKeywordsPredicate;
+import casetrack.app.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @Test
+    public void find_keywordPredicates_sameAsTestingEveryPerson() {
+        List<Person> persons = getTypicalPersons();
+        searchIndex.setPersons(persons);
+
+        List<Predicate<Person>> predicates = List.of(
+                new NameContainsKeywordsPredicate(List.of("meier", "ALICE")),
+                new NameContainsKeywordsPredicate(List.of("Mei")),
+                new NameContainsKeywordsPredicate(List.of()),
+                new NameStartsWithKeywordsPredicate(List.of("MEI", "al")),
+                new NameStartsWithKeywordsPredicate(List.of("e", "xyz")),
+                new NameSimilarToKeywordsPredicate(List.of("meyer", "Kuz")),
+                new NameSimilarToKeywordsPredicate(List.of("ALICIA", "Da")),
+                new EmailContainsKeywordsPredicate(List.of("EXAMPLE.com")),
+                new EmailContainsKeywordsPredicate(List.of("alice@", "heinz")),
+                new PhoneContainsKeywordsPredicate(List.of("9482", "353")),
+                new PhoneContainsKeywordsPredicate(List.of("12", "abc")),
+                new IncomeInRangePredicate(new BigDecimal("1000"), new BigDecimal("1000")),
+                new IncomeInRangePredicate(null, new BigDecimal("999.99")),
+                new IncomeComparisonPredicate(Operator.AT_LEAST, new BigDecimal("1000.0")),
+                new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1000")));
+        for (Predicate<Person> predicate : predicates) {
+            Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(searchIndex.find(predicate).get()), predicate.toString());
+        }
+    }
+
+    @Test
+    public void findByNamePrefix_limit_firstMatchesInNameWordOrder() {
+        Person alex = new PersonBuilder().withName("Alex Yeoh").withPhone("81111111").build();
+        Person alice = new PersonBuilder().withName("alice Pauline").withPhone("82222222").build();
+        Person bernice = new PersonBuilder().withName("Bernice Alvarez").withPhone("83333333").build();
+        searchIndex.setPersons(List.of(bernice, alice, alex));
+
+        assertEquals(List.of(alex, alice, bernice), searchIndex.findByNamePrefix("AL", 10));
+        assertEquals(List.of(alex, alice), searchIndex.findByNamePrefix("al", 2));
+        assertEquals(List.of(alice), searchIndex.findByNamePrefix("alic", 10));
+        assertTrue(searchIndex.findByNamePrefix("alz", 10).isEmpty());
+    }
+
+    @Test
+    public void findBySimilarName_distancesOfClosestWords() {
+        List<Person> persons = getTypicalPersons();
+        searchIndex.setPersons(persons);
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("Meyer", "Kunz"));
+
+        Map<Person, Integer> distances = searchIndex.findBySimilarName(predicate);
+        for (Person person : persons) {
+            assertEquals(predicate.getDistance(person).isPresent() ? predicate.getDistance(person).getAsInt() : null,
+                    distances.get(person), person.toString());
+        }
+
+        // Name words of removed persons are no longer found
+        searchIndex.remove(BENSON);
+        searchIndex.remove(DANIEL);
+        assertEquals(Set.of(ELLE), new HashSet<>(searchIndex.findBySimilarName(
+                new NameSimilarToKeywordsPredicate(List.of("Meier"))).keySet()));
+    }
+
+    @Test
+    public void find_incomePredicates_personsWithIncomesInRange() {
+        Person low = new PersonBuilder().withName("Low").withPhone("81111111").withIncome("800").build();
+        Person middle = new PersonBuilder().withName("Middle").withPhone("82222222").withIncome("1200.50").build();
+        Person otherMiddle = new PersonBuilder().withName("Other").withPhone("83333333").withIncome("1200.5").build();
+        Person high = new PersonBuilder().withName("High").withPhone("84444444").withIncome("3000").build();
+        searchIndex.setPersons(List.of(low, middle, otherMiddle, high));
+
+        assertEquals(Set.of(middle, otherMiddle, high), new HashSet<>(searchIndex.find(
+                new IncomeInRangePredicate(new BigDecimal("1200.5"), null)).get()));
+        assertEquals(Set.of(low, middle, otherMiddle), new HashSet<>(searchIndex.find(
+                new IncomeInRangePredicate(new BigDecimal("800"), new BigDecimal("1200.50"))).get()));
+        assertEquals(Set.of(middle, otherMiddle), new HashSet<>(searchIndex.find(
+                new IncomeComparisonPredicate(Operator.EQUAL_TO, new BigDecimal("1200.500"))).get()));
+        assertEquals(Set.of(high), new HashSet<>(searchIndex.find(
+                new IncomeComparisonPredicate(Operator.GREATER_THAN, new BigDecimal("1200.5"))).get()));
+
+        // Incomes are updated as persons are removed
+        searchIndex.remove(middle);
+        assertEquals(Set.of(otherMiddle), new HashSet<>(searchIndex.find(
+                new IncomeInRangePredicate(new BigDecimal("1000"), new BigDecimal("2000"))).get()));
+    }
+
+    @Test
+    public void find_shortEmailKeyword_notLookedUp() {
+        searchIndex.setPersons(getTypicalPersons());
+        assertFalse(searchIndex.find(new EmailContainsKeywordsPredicate(List.of("al"))).isPresent());
+    }
+
+    @Test
+    public void find_otherPredicate_notLookedUp() {
+        searchIndex.setPersons(getTypicalPersons());
+        assertFalse(searchIndex.find(Model.PREDICATE_SHOW_ALL_PERSONS).isPresent());
+    }
+
+    @Test
+    public void addAndRemove_indexUpdated() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Pauline"));
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        assertEquals(Set.of(ALICE), new HashSet<>(searchIndex.find(predicate).get()));
+
+        // Persons are removed by reference, not by equality
+        searchIndex.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Set.of(ALICE), new HashSet<>(searchIndex.find(predicate).get()));
+
+        searchIndex.remove(ALICE);
+        assertTrue(searchIndex.find(predicate).get().isEmpty());
+        assertEquals(Set.of(BENSON), new HashSet<>(searchIndex.find(
+                new NameContainsKeywordsPredicate(List.of("Benson"))).get()));
+    }
+
+}
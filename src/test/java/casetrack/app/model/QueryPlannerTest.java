@@ -0,0 +1,110 @@
+package casetrack.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate.Operator;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private static final List<Person> PERSONS = List.of(
+            new PersonBuilder().withName("Tan Ah Kow").withPhone("81111111").withIncome("800")
+                    .withTags("elderly").build(),
+            new PersonBuilder().withName("Tan Mei Ling").withPhone("82222222").withIncome("2400")
+                    .withTags("elderly", "caregiver").build(),
+            new PersonBuilder().withName("Lim Bee Hoon").withPhone("83333333").withIncome("1200")
+                    .withTags("caregiver").build(),
+            new PersonBuilder().withName("Siti Aminah").withPhone("84444444").withIncome("500").build());
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final List<Predicate<Person>> lookedUp = new ArrayList<>();
+
+    private final Predicate<Person> nameTan = new NameContainsKeywordsPredicate(List.of("tan"));
+    private final Predicate<Person> tagElderly = new TagContainsKeywordsPredicate(List.of("elderly"));
+    private final Predicate<Person> tagCaregiver = new TagContainsKeywordsPredicate(List.of("caregiver"));
+    private final Predicate<Person> incomeBelow1500 =
+            new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1500"));
+
+    @Test
+    public void find_queries_sameAsTestingEveryPerson() {
+        setPersons();
+        List<Predicate<Person>> predicates = List.of(
+                nameTan,
+                new AndPredicate(List.of(nameTan, tagElderly, incomeBelow1500)),
+                new OrPredicate(List.of(new AndPredicate(List.of(nameTan, tagCaregiver)), tagCaregiver)),
+                new AndPredicate(List.of(tagCaregiver, new NotPredicate(nameTan))),
+                new AndPredicate(List.of(new OrPredicate(List.of(tagElderly, tagCaregiver)), incomeBelow1500)),
+                new AndPredicate(List.of(nameTan, new NameContainsKeywordsPredicate(List.of("siti")))),
+                new AndPredicate(List.of(tagCaregiver, new NotPredicate(tagElderly))));
+        for (Predicate<Person> predicate : predicates) {
+            Set<Person> expected = PERSONS.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(find(predicate).get()), predicate.toString());
+        }
+    }
+
+    @Test
+    public void find_withoutIndexedOperand_notLookedUp() {
+        setPersons();
+        Predicate<Person> notTan = new NotPredicate(nameTan);
+        assertFalse(find(notTan).isPresent());
+        assertFalse(find(new AndPredicate(List.of(notTan, new NotPredicate(incomeBelow1500)))).isPresent());
+        // Every operand of an OrPredicate must be looked up
+        assertFalse(find(new OrPredicate(List.of(nameTan, notTan))).isPresent());
+    }
+
+    @Test
+    public void find_queryLookedUpWhole_operandsNotLookedUp() {
+        setPersons();
+        Predicate<Person> query = new AndPredicate(List.of(
+                new OrPredicate(List.of(tagElderly, tagCaregiver)), new NotPredicate(tagElderly)));
+        assertEquals(Set.of(PERSONS.get(2)), find(query).get());
+        assertEquals(List.of(query), lookedUp);
+    }
+
+    @Test
+    public void find_operandWithNoMatches_laterOperandsNotLookedUp() {
+        setPersons();
+        Predicate<Person> nameGoh = new NameContainsKeywordsPredicate(List.of("goh"));
+        Predicate<Person> query = new AndPredicate(List.of(nameGoh, tagElderly, nameTan));
+        assertEquals(Set.of(), find(query).get());
+        assertEquals(List.of(query, nameGoh), lookedUp);
+    }
+
+    private void setPersons() {
+        searchIndex.setPersons(PERSONS);
+        tagIndex.setPersons(PERSONS);
+    }
+
+    /**
+     * Finds the persons matching {@code predicate}, looking up operands in the indexes the way {@code ModelManager}
+     * does.
+     */
+    private Optional<Set<Person>> find(Predicate<Person> predicate) {
+        lookedUp.clear();
+        return QueryPlanner.find(predicate, operand -> {
+            lookedUp.add(operand);
+            Optional<Set<Person>> matches = tagIndex.find(operand);
+            return matches.isPresent() ? matches : searchIndex.find(operand);
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package casetrack.app.model;
+
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.DANIEL;
+import static casetrack.app.testutil.TypicalPersons.getTypicalPersons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.AndPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate;
+import casetrack.app.model.person.IncomeComparisonPredicate.Operator;
+import casetrack.app.model.person.NameContainsKeywordsPredicate;
+import casetrack.app.model.person.NotPredicate;
+import casetrack.app.model.person.OrPredicate;
+import casetrack.app.model.person.Person;
+import casetrack.app.model.person.TagContainsKeywordsPredicate;
+import casetrack.app.model.tag.Tag;
+import casetrack.app.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    private final Predicate<Person> tagFriends = new TagContainsKeywordsPredicate(List.of("friends"));
+    private final Predicate<Person> tagOwesMoney = new TagContainsKeywordsPredicate(List.of("owes"));
+
+    @Test
+    public void find_tagQueries_sameAsTestingEveryPerson() {
+        List<Person> persons = getTypicalPersons();
+        tagIndex.setPersons(persons);
+
+        List<Predicate<Person>> predicates = List.of(
+                tagFriends,
+                new TagContainsKeywordsPredicate(List.of("FRIEND", "money")),
+                new TagContainsKeywordsPredicate(List.of("unknown")),
+                new TagContainsKeywordsPredicate(List.of()),
+                new NotPredicate(tagFriends),
+                new AndPredicate(List.of(tagFriends, tagOwesMoney)),
+                new OrPredicate(List.of(tagOwesMoney, new NotPredicate(tagFriends))),
+                new AndPredicate(List.of(tagFriends, new NotPredicate(tagOwesMoney))));
+        for (Predicate<Person> predicate : predicates) {
+            Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(tagIndex.find(predicate).get()), predicate.toString());
+        }
+    }
+
+    @Test
+    public void find_notOnlyTagSearches_returnsEmpty() {
+        tagIndex.setPersons(getTypicalPersons());
+        Predicate<Person> nameAlice = new NameContainsKeywordsPredicate(List.of("alice"));
+        assertFalse(tagIndex.find(nameAlice).isPresent());
+        assertFalse(tagIndex.find(new AndPredicate(List.of(tagFriends, nameAlice))).isPresent());
+        assertFalse(tagIndex.find(new OrPredicate(List.of(tagFriends,
+                new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1000"))))).isPresent());
+        assertFalse(tagIndex.find(new NotPredicate(nameAlice)).isPresent());
+        assertFalse(tagIndex.find(new AndPredicate(List.of())).isPresent());
+    }
+
+    @Test
+    public void find_equalPersons_returnsIndexedInstances() {
+        Person alice = new PersonBuilder(ALICE).build();
+        tagIndex.add(alice);
+        Set<Person> matches = tagIndex.find(tagFriends).get();
+        assertEquals(1, matches.size());
+        assertSame(alice, matches.iterator().next());
+        // Compared by reference, like the sets PersonSearchIndex returns
+        assertFalse(matches.contains(ALICE));
+    }
+
+    @Test
+    public void addAndRemove_slotsReused_indexKeptUpToDate() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.add(DANIEL);
+        tagIndex.remove(BENSON);
+        // The person added next takes the slot BENSON was in
+        Person dan = new PersonBuilder().withName("Dan").withTags("owesMoney").build();
+        tagIndex.add(dan);
+
+        assertEquals(Set.of(ALICE, DANIEL), tagIndex.find(tagFriends).get());
+        assertEquals(Set.of(dan), tagIndex.find(tagOwesMoney).get());
+        assertEquals(Set.of(dan), tagIndex.find(new NotPredicate(tagFriends)).get());
+
+        tagIndex.remove(dan);
+        tagIndex.remove(dan);
+        assertEquals(Set.of(), tagIndex.find(tagOwesMoney).get());
+        assertEquals(Set.of(), tagIndex.find(new NotPredicate(tagFriends)).get());
+    }
+
+    @Test
+    public void getCount_afterAddAndRemove_countsPersonsWithTag() {
+        Tag friends = new Tag("friends");
+        Tag owesMoney = new Tag("owesMoney");
+        assertEquals(0, tagIndex.getCount(friends));
+        assertEquals(0, tagIndex.getCount(new Tag("neverInterned")));
+
+        tagIndex.setPersons(List.of(ALICE, BENSON, DANIEL));
+        assertEquals(3, tagIndex.getCount(friends));
+        assertEquals(1, tagIndex.getCount(owesMoney));
+
+        tagIndex.remove(BENSON);
+        assertEquals(2, tagIndex.getCount(friends));
+        assertEquals(0, tagIndex.getCount(owesMoney));
+    }
+
+    @Test
+    public void getCounts_tagsNoPersonHas_notIncluded() {
+        tagIndex.setPersons(List.of(ALICE, BENSON));
+        assertEquals(Map.of(new Tag("friends"), 2, new Tag("owesMoney"), 1), tagIndex.getCounts());
+
+        tagIndex.remove(BENSON);
+        assertEquals(Map.of(new Tag("friends"), 1), tagIndex.getCounts());
+
+        tagIndex.setPersons(List.of());
+        assertEquals(Map.of(), tagIndex.getCounts());
+    }
+}
@@ -0,0 +1,77 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.model.person.IncomeComparisonPredicate.Operator;
+import casetrack.app.testutil.PersonBuilder;
+
+public class IncomeComparisonPredicateTest {
+
+    private static final Person INCOME_1000 = new PersonBuilder().withIncome("1000").build();
+
+    @Test
+    public void equals() {
+        IncomeComparisonPredicate firstPredicate = new IncomeComparisonPredicate(Operator.LESS_THAN,
+                new BigDecimal("1500"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values, written differently -> returns true
+        assertTrue(firstPredicate.equals(new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1500.0"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different operator -> returns false
+        assertFalse(firstPredicate.equals(new IncomeComparisonPredicate(Operator.AT_MOST, new BigDecimal("1500"))));
+
+        // different amount -> returns false
+        assertFalse(firstPredicate.equals(new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1501"))));
+    }
+
+    @Test
+    public void hashCode_sameValuesWrittenDifferently_sameHashCode() {
+        assertEquals(new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1500")).hashCode(),
+                new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1500.0")).hashCode());
+    }
+
+    @Test
+    public void test_eachOperator_comparedToAmount() {
+        assertTrue(new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1000.01")).test(INCOME_1000));
+        assertFalse(new IncomeComparisonPredicate(Operator.LESS_THAN, new BigDecimal("1000")).test(INCOME_1000));
+        assertTrue(new IncomeComparisonPredicate(Operator.AT_MOST, new BigDecimal("1000")).test(INCOME_1000));
+        assertFalse(new IncomeComparisonPredicate(Operator.AT_MOST, new BigDecimal("999")).test(INCOME_1000));
+        assertTrue(new IncomeComparisonPredicate(Operator.GREATER_THAN, new BigDecimal("999.99")).test(INCOME_1000));
+        assertFalse(new IncomeComparisonPredicate(Operator.GREATER_THAN, new BigDecimal("1000")).test(INCOME_1000));
+        assertTrue(new IncomeComparisonPredicate(Operator.AT_LEAST, new BigDecimal("1000")).test(INCOME_1000));
+        assertFalse(new IncomeComparisonPredicate(Operator.AT_LEAST, new BigDecimal("1001")).test(INCOME_1000));
+        assertTrue(new IncomeComparisonPredicate(Operator.EQUAL_TO, new BigDecimal("1000.00")).test(INCOME_1000));
+        assertFalse(new IncomeComparisonPredicate(Operator.EQUAL_TO, new BigDecimal("100")).test(INCOME_1000));
+    }
+
+    @Test
+    public void fromSymbol() {
+        for (Operator operator : Operator.values()) {
+            assertEquals(Optional.of(operator), Operator.fromSymbol(operator.getSymbol()));
+        }
+        assertEquals(Optional.empty(), Operator.fromSymbol("=<"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IncomeComparisonPredicate predicate = new IncomeComparisonPredicate(Operator.AT_MOST, new BigDecimal("1500"));
+        String expected = IncomeComparisonPredicate.class.getCanonicalName() + "{operator=<=, amount=1500}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,78 @@
+package casetrack.app.model.person;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class IncomeInRangePredicateTest {
+
+    private static final BigDecimal FIVE_HUNDRED = new BigDecimal("500");
+    private static final BigDecimal ONE_THOUSAND = new BigDecimal("1000");
+
+    @Test
+    public void constructor_minMoreThanMax_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IncomeInRangePredicate(ONE_THOUSAND, FIVE_HUNDRED));
+    }
+
+    @Test
+    public void equals() {
+        IncomeInRangePredicate firstPredicate = new IncomeInRangePredicate(FIVE_HUNDRED, ONE_THOUSAND);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values, written differently -> returns true
+        assertTrue(firstPredicate.equals(new IncomeInRangePredicate(new BigDecimal("500.00"), ONE_THOUSAND)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different ends -> returns false
+        assertFalse(firstPredicate.equals(new IncomeInRangePredicate(null, ONE_THOUSAND)));
+        assertFalse(firstPredicate.equals(new IncomeInRangePredicate(FIVE_HUNDRED, null)));
+        assertFalse(new IncomeInRangePredicate(null, ONE_THOUSAND).equals(firstPredicate));
+    }
+
+    @Test
+    public void hashCode_sameValuesWrittenDifferently_sameHashCode() {
+        assertEquals(new IncomeInRangePredicate(FIVE_HUNDRED, null).hashCode(),
+                new IncomeInRangePredicate(new BigDecimal("500.00"), null).hashCode());
+    }
+
+    @Test
+    public void test_incomeInRange_returnsTrue() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(FIVE_HUNDRED, ONE_THOUSAND);
+        // both ends are included
+        assertTrue(predicate.test(new PersonBuilder().withIncome("500").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("750.25").build()));
+        assertTrue(predicate.test(new PersonBuilder().withIncome("1000.00").build()));
+
+        // open ends
+        assertTrue(new IncomeInRangePredicate(null, FIVE_HUNDRED).test(new PersonBuilder().withIncome("0").build()));
+        assertTrue(new IncomeInRangePredicate(ONE_THOUSAND, null).test(new PersonBuilder().withIncome("1e6").build()));
+    }
+
+    @Test
+    public void test_incomeOutsideRange_returnsFalse() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(FIVE_HUNDRED, ONE_THOUSAND);
+        assertFalse(predicate.test(new PersonBuilder().withIncome("499.99").build()));
+        assertFalse(predicate.test(new PersonBuilder().withIncome("1000.01").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IncomeInRangePredicate predicate = new IncomeInRangePredicate(null, ONE_THOUSAND);
+        String expected = IncomeInRangePredicate.class.getCanonicalName() + "{min=null, max=1000}";
+        assertEquals(expected, predicate.toString());
+    }
+}
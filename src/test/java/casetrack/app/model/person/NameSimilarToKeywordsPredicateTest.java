@@ -0,0 +1,100 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSimilarToKeywordsPredicate firstPredicate = new NameSimilarToKeywordsPredicate(firstPredicateKeywordList);
+        NameSimilarToKeywordsPredicate secondPredicate = new NameSimilarToKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSimilarToKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, NameSimilarToKeywordsPredicate.getMaxDistance("Li"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.getMaxDistance("Tan"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.getMaxDistance("Meier"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.getMaxDistance("Mohamed"));
+    }
+
+    @Test
+    public void getDistance_closestWord() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("muhammad", "Tan"));
+        assertEquals(OptionalInt.of(2), predicate.getDistance(new PersonBuilder().withName("Mohammed Ali").build()));
+        assertEquals(OptionalInt.of(0), predicate.getDistance(new PersonBuilder().withName("Mohammed TAN").build()));
+        assertEquals(OptionalInt.empty(), predicate.getDistance(new PersonBuilder().withName("Ali Lim").build()));
+    }
+
+    @Test
+    public void test_nameSimilarToKeywords_returnsTrue() {
+        // Exact word, ignoring case
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(List.of("aLIce"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // One letter replaced, inserted or deleted
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Alyce"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Allice"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Alce"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Two letters off in a long keyword
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Mohamad"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Muhammad Ali").build()));
+    }
+
+    @Test
+    public void test_nameNotSimilarToKeywords_returnsFalse() {
+        // Zero keywords
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Two letters off in a short keyword
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Alyse"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // One letter off in a keyword of two letters
+        predicate = new NameSimilarToKeywordsPredicate(List.of("Lo"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Li Ming").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(keywords);
+
+        String expected = NameSimilarToKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,87 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("fir");
+        List<String> secondPredicateKeywordList = Arrays.asList("fir", "sec");
+
+        NameStartsWithKeywordsPredicate firstPredicate = new NameStartsWithKeywordsPredicate(firstPredicateKeywordList);
+        NameStartsWithKeywordsPredicate secondPredicate =
+                new NameStartsWithKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameStartsWithKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same keywords, matched as whole words -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList)));
+    }
+
+    @Test
+    public void test_nameStartsWithKeywords_returnsTrue() {
+        // Prefix of the first word
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(List.of("Al"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Prefix of a later word
+        predicate = new NameStartsWithKeywordsPredicate(List.of("Bo"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Whole word
+        predicate = new NameStartsWithKeywordsPredicate(List.of("Bob"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Only one matching keyword, in mixed case
+        predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("xy", "cAR"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Carol").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotStartWithKeywords_returnsFalse() {
+        // Zero keywords
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Keyword in the middle of a word
+        predicate = new NameStartsWithKeywordsPredicate(List.of("lic"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keyword longer than the word
+        predicate = new NameStartsWithKeywordsPredicate(List.of("Alicent"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(keywords);
+
+        String expected = NameStartsWithKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,9 +1,12 @@
 package casetrack.app.model.person;
 
 import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -89,4 +92,17 @@ public class NameTest {
         assertTrue(name.equals(new Name("Alice   Bob   Charlie")));
         assertTrue(name.equals(new Name("Alice Bob  Charlie")));
     }
+
+    @Test
+    public void hashCode_equalNames_sameHashCode() {
+        Name name = new Name("Alice Bob Charlie");
+        assertEquals(name.hashCode(), name.hashCode());
+        assertEquals(name.hashCode(), new Name("alice  Bob   CHARLIE").hashCode());
+    }
+
+    @Test
+    public void getFoldedWords() {
+        assertEquals(List.of("alice", "bob", "s/o", "tan"), new Name("Alice  BOB s/o Tan").getFoldedWords());
+        assertEquals(List.of("peter"), new Name("peter").getFoldedWords());
+    }
 }
@@ -0,0 +1,51 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+
+    private static final Predicate<Person> NAME_ALICE = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+    @Test
+    public void equals() {
+        NotPredicate firstPredicate = new NotPredicate(NAME_ALICE);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NotPredicate(new NameContainsKeywordsPredicate(List.of("Alice")))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different operand -> returns false
+        assertFalse(firstPredicate.equals(new NotPredicate(new NameContainsKeywordsPredicate(List.of("Bob")))));
+    }
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(NAME_ALICE);
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NotPredicate predicate = new NotPredicate(NAME_ALICE);
+        String expected = NotPredicate.class.getCanonicalName() + "{operand=" + NAME_ALICE + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,92 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class NoteContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NoteContainsKeywordsPredicate firstPredicate = new NoteContainsKeywordsPredicate(List.of("first"));
+        NoteContainsKeywordsPredicate secondPredicate = new NoteContainsKeywordsPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NoteContainsKeywordsPredicate(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_noteContainsKeywords_returnsTrue() {
+        Person person = new PersonBuilder().withNotes(new Note("Home visit on Monday."),
+                new Note("Referred to the renal clinic for dialysis")).build();
+
+        // One keyword, ignoring case and punctuation
+        assertTrue(new NoteContainsKeywordsPredicate(List.of("MONDAY")).test(person));
+
+        // Only one matching keyword
+        assertTrue(new NoteContainsKeywordsPredicate(List.of("friday", "dialysis")).test(person));
+
+        // Phrase, with a stop word taking up its position
+        assertTrue(new NoteContainsKeywordsPredicate(List.of("home visit")).test(person));
+        assertTrue(new NoteContainsKeywordsPredicate(List.of("referred to a renal clinic")).test(person));
+    }
+
+    @Test
+    public void test_noteDoesNotContainKeywords_returnsFalse() {
+        Person person = new PersonBuilder().withNotes(new Note("Home visit on Monday"),
+                new Note("Visit the clinic")).build();
+
+        // Zero keywords
+        assertFalse(new NoteContainsKeywordsPredicate(Collections.emptyList()).test(person));
+
+        // Partial word
+        assertFalse(new NoteContainsKeywordsPredicate(List.of("mon")).test(person));
+
+        // Stop words only
+        assertFalse(new NoteContainsKeywordsPredicate(List.of("the", "on")).test(person));
+
+        // Words not next to each other, or in different notes
+        assertFalse(new NoteContainsKeywordsPredicate(List.of("home monday")).test(person));
+        assertFalse(new NoteContainsKeywordsPredicate(List.of("monday visit")).test(person));
+
+        // No notes
+        assertFalse(new NoteContainsKeywordsPredicate(List.of("home")).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void getPhrases() {
+        List<NoteContainsKeywordsPredicate.Phrase> phrases =
+                new NoteContainsKeywordsPredicate(List.of("the", "Visit to clinic")).getPhrases();
+        assertEquals(1, phrases.size());
+        assertEquals(List.of("visit", "clinic"), phrases.get(0).getTerms());
+        assertEquals(List.of(0, 2), phrases.get(0).getOffsets());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NoteContainsKeywordsPredicate predicate = new NoteContainsKeywordsPredicate(keywords);
+
+        String expected = NoteContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,56 @@
+package casetrack.app.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.testutil.PersonBuilder;
+
+public class OrPredicateTest {
+
+    private static final Predicate<Person> NAME_ALICE = new NameContainsKeywordsPredicate(List.of("Alice"));
+    private static final Predicate<Person> TAG_FRIEND = new TagContainsKeywordsPredicate(List.of("friend"));
+
+    @Test
+    public void equals() {
+        OrPredicate firstPredicate = new OrPredicate(List.of(NAME_ALICE, TAG_FRIEND));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new OrPredicate(List.of(NAME_ALICE, TAG_FRIEND))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different operands -> returns false
+        assertFalse(firstPredicate.equals(new OrPredicate(List.of(TAG_FRIEND, NAME_ALICE))));
+    }
+
+    @Test
+    public void test() {
+        OrPredicate predicate = new OrPredicate(List.of(NAME_ALICE, TAG_FRIEND));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol").withTags("friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Carol").build()));
+
+        // No operands
+        assertFalse(new OrPredicate(List.of()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        OrPredicate predicate = new OrPredicate(List.of(NAME_ALICE, TAG_FRIEND));
+        String expected = OrPredicate.class.getCanonicalName() + "{operands=" + List.of(NAME_ALICE, TAG_FRIEND) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -13,8 +13,13 @@ import static casetrack.app.testutil.TypicalPersons.BOB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.jupiter.api.Test;
 
 import casetrack.app.model.tag.Tag;
@@ -200,6 +205,103 @@ public class PersonTest {
         assertNotEquals(withoutNotes.hashCode(), withNotes.hashCode());
     }
 
+    @Test
+    public void getNotes_notesLoader_loadedOnceWhenFirstNeeded() {
+        Note note = new Note("Lazy note");
+        Person withNotes = new PersonBuilder(ALICE).withNotes(note).build();
+        AtomicInteger loadCount = new AtomicInteger();
+        Person lazyPerson = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getIncome(), ALICE.getMedicalInfo(), ALICE.getTags(), () -> {
+                    loadCount.incrementAndGet();
+                    return List.of(note);
+                });
+
+        assertTrue(lazyPerson.isSamePerson(withNotes));
+        assertEquals(0, loadCount.get());
+
+        assertEquals(List.of(note), lazyPerson.getNotes());
+        assertEquals(withNotes, lazyPerson);
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void hashCode_cached_sameAsBeforeAndEqualityUnchanged() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).build();
+
+        int hash = alice.hashCode();
+        assertEquals(hash, alice.hashCode());
+        assertEquals(hash, aliceCopy.hashCode());
+        assertEquals(hash, alice.withId(9).hashCode());
+        bob.hashCode();
+
+        // equal persons with cached hashes are still compared field by field, and unequal ones are told apart
+        assertTrue(alice.equals(aliceCopy));
+        assertFalse(alice.equals(bob));
+        assertFalse(alice.equals(alice.addNote(new Note("Note"))));
+    }
+
+    @Test
+    public void hashCode_notesLoader_sameAsLoadedNotes() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Person lazyPerson = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getIncome(), ALICE.getMedicalInfo(), ALICE.getTags(), () -> {
+                    loadCount.incrementAndGet();
+                    return List.of(new Note("Lazy note"));
+                });
+
+        assertEquals(lazyPerson.hashCode(), lazyPerson.hashCode());
+        assertEquals(new PersonBuilder(ALICE).withNotes(new Note("Lazy note")).build().hashCode(),
+                lazyPerson.hashCode());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void withId() {
+        Person aliceWithId = ALICE.withId(5);
+        assertEquals(Person.NO_ID, ALICE.getId());
+        assertEquals(5, aliceWithId.getId());
+        assertTrue(aliceWithId == aliceWithId.withId(5));
+
+        // IDs are not compared
+        assertEquals(ALICE, aliceWithId);
+        assertEquals(ALICE.hashCode(), aliceWithId.hashCode());
+
+        // editing notes keeps the ID
+        assertEquals(5, aliceWithId.addNote(new Note("Note")).getId());
+    }
+
+    @Test
+    public void withId_notesLoader_notLoadedUntilNeeded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Person lazyPerson = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getIncome(), ALICE.getMedicalInfo(), ALICE.getTags(), () -> {
+                    loadCount.incrementAndGet();
+                    return List.of(new Note("Lazy note"));
+                });
+
+        Person lazyPersonWithId = lazyPerson.withId(3);
+        assertEquals(0, loadCount.get());
+        assertEquals(List.of(new Note("Lazy note")), lazyPersonWithId.getNotes());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void getNotesLoader_notesNotLoaded_returnsLoaderWithoutLoading() {
+        Supplier<List<Note>> notesLoader = () -> List.of(new Note("Lazy note"));
+        Person lazyPerson = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getIncome(), ALICE.getMedicalInfo(), ALICE.getTags(), notesLoader);
+
+        assertSame(notesLoader, lazyPerson.getNotesLoader().get());
+        assertEquals(List.of(new Note("Lazy note")), lazyPerson.getNotesLoader().get().get());
+        assertTrue(lazyPerson.getNotesLoader().isPresent());
+
+        lazyPerson.getNotes();
+        assertFalse(lazyPerson.getNotesLoader().isPresent());
+        assertFalse(ALICE.getNotesLoader().isPresent());
+    }
+
     @Test
     public void equals_differentMedicalInfo_returnsFalse() {
         // Only medical info differs
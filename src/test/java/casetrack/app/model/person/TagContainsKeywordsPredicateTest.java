@@ -70,6 +70,15 @@ public class TagContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withTags("friend").build()));
     }
 
+    @Test
+    public void test_tagInternedAfterFirstTest_returnsTrue() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(List.of("predicateTestLater"));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friend").build()));
+
+        // The tag is only interned once the person with it is built
+        assertTrue(predicate.test(new PersonBuilder().withTags("predicateTestLater").build()));
+    }
+
     @Test
     public void test_personWithNoTags_returnsFalse() {
         TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Collections.singletonList("friend"));
@@ -0,0 +1,61 @@
+package casetrack.app.model.tag;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class TagRegistryTest {
+
+    @Test
+    public void intern_sameName_sameTag() {
+        Tag tag = TagRegistry.intern("registryTest");
+        assertSame(tag, TagRegistry.intern("registryTest"));
+        assertSame(tag, TagRegistry.intern(new Tag("registryTest")));
+        assertSame(tag, TagRegistry.intern(tag));
+        assertEquals(new Tag("registryTest"), tag);
+        assertTrue(TagRegistry.isInterned("registryTest"));
+    }
+
+    @Test
+    public void intern_differentNames_differentOrdinals() {
+        Tag first = TagRegistry.intern("registryTestFirst");
+        Tag second = TagRegistry.intern("registryTestSecond");
+        assertNotEquals(first.getOrdinal(), second.getOrdinal());
+        assertSame(first, TagRegistry.get(first.getOrdinal()));
+        assertSame(second, TagRegistry.getTags().get(second.getOrdinal()));
+        assertTrue(TagRegistry.size() > second.getOrdinal());
+    }
+
+    @Test
+    public void intern_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TagRegistry.intern("not a tag"));
+        assertFalse(TagRegistry.isInterned("not a tag"));
+        assertThrows(NullPointerException.class, () -> TagRegistry.intern((String) null));
+    }
+
+    @Test
+    public void ordinalOf_tagNotInterned_noOrdinal() {
+        assertEquals(Tag.NO_ORDINAL, new Tag("registryTestNeverInterned").getOrdinal());
+        assertEquals(Tag.NO_ORDINAL, TagRegistry.ordinalOf(new Tag("registryTestNeverInterned")));
+
+        Tag tag = TagRegistry.intern("registryTestOrdinal");
+        assertEquals(tag.getOrdinal(), TagRegistry.ordinalOf(new Tag("registryTestOrdinal")));
+    }
+
+    @Test
+    public void findOrdinals_matchingTags() {
+        Tag matching = TagRegistry.intern("registryTestMatching");
+        Tag other = TagRegistry.intern("registryTestOther");
+        BitSet ordinals = TagRegistry.findOrdinals(tag -> tag.tagName.equals("registryTestMatching"));
+        assertTrue(ordinals.get(matching.getOrdinal()));
+        assertFalse(ordinals.get(other.getOrdinal()));
+        assertEquals(1, ordinals.cardinality());
+    }
+}
@@ -0,0 +1,82 @@
+package casetrack.app.model.tag;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void copyOf_tags_sameSetAsHashSet() {
+        List<Tag> tags = List.of(new Tag("friends"), new Tag("elderly"), new Tag("friends"));
+        TagSet tagSet = TagSet.copyOf(tags);
+
+        assertEquals(2, tagSet.size());
+        assertEquals(new HashSet<>(tags), tagSet);
+        assertEquals(tagSet, new HashSet<>(tags));
+        assertEquals(new HashSet<>(tags).hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.copyOf(List.of(new Tag("elderly"), new Tag("friends"))));
+        assertTrue(TagSet.copyOf(List.of()).isEmpty());
+    }
+
+    @Test
+    public void copyOf_tagSet_returnsSameSet() {
+        TagSet tagSet = TagSet.copyOf(Set.of(new Tag("friends")));
+        assertSame(tagSet, TagSet.copyOf(tagSet));
+    }
+
+    @Test
+    public void copyOf_tags_interned() {
+        for (Tag tag : TagSet.copyOf(Set.of(new Tag("tagSetTestInterned")))) {
+            assertSame(TagRegistry.intern("tagSetTestInterned"), tag);
+        }
+    }
+
+    @Test
+    public void copyOf_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.copyOf(Arrays.asList(new Tag("friends"), null)));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.copyOf(Set.of(new Tag("friends"), new Tag("elderly")));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertTrue(tagSet.contains(TagRegistry.intern("elderly")));
+        assertFalse(tagSet.contains(new Tag("tagSetTestNeverInterned")));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(TagSet.empty().contains(new Tag("friends")));
+    }
+
+    @Test
+    public void intersects() {
+        TagSet tagSet = TagSet.copyOf(Set.of(new Tag("friends"), new Tag("elderly")));
+        BitSet ordinals = new BitSet();
+        assertFalse(tagSet.intersects(ordinals));
+
+        ordinals.set(TagRegistry.intern("tagSetTestOther").getOrdinal());
+        assertFalse(tagSet.intersects(ordinals));
+
+        ordinals.set(TagRegistry.intern("elderly").getOrdinal());
+        assertTrue(tagSet.intersects(ordinals));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.copyOf(Set.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("elderly")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("elderly")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, tagSet::clear);
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
@@ -0,0 +1,122 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.IDA;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void submit_whileSaveInProgress_changesSavedTogether() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveAllowed = new CountDownLatch(1);
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+                    throws IOException {
+                if (savedChanges.isEmpty()) {
+                    firstSaveStarted.countDown();
+                    awaitUninterruptibly(firstSaveAllowed);
+                }
+                super.saveAddressBookChanges(addressBook, changes);
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.submit(addressBook, List.of(AddressBookChange.deleted(ALICE)));
+        firstSaveStarted.await();
+
+        addressBook.addPerson(HOON);
+        saver.submit(addressBook, List.of(AddressBookChange.added(HOON)));
+        addressBook.addPerson(IDA);
+        saver.submit(addressBook, List.of(AddressBookChange.added(IDA)));
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+
+        // Changes made after the last submission are not saved
+        addressBook.removePerson(BENSON);
+
+        firstSaveAllowed.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.savedChanges.size());
+        assertEquals(List.of(AddressBookChange.added(HOON), AddressBookChange.added(IDA)),
+                storage.savedChanges.get(1));
+        assertEquals(expectedAddressBook, storage.savedAddressBooks.get(1));
+    }
+
+    @Test
+    public void submit_saveFails_failureHandlerNotified() {
+        IOException saveException = new IOException("Disk full");
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+                    throws IOException {
+                throw saveException;
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.submit(getTypicalAddressBook(), List.of(AddressBookChange.added(HOON)));
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertSame(saveException, failures.get(0));
+    }
+
+    @Test
+    public void flush_nothingSubmitted_storageNotCalled() {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        new BackgroundAddressBookSaver(storage).flush();
+        assertEquals(0, storage.savedChanges.size());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records what it is asked to save instead of writing to disk.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        protected final List<AddressBook> savedAddressBooks = new ArrayList<>();
+        protected final List<List<AddressBookChange>> savedChanges = new ArrayList<>();
+
+        RecordingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+                throws IOException {
+            savedAddressBooks.add(new AddressBook(addressBook));
+            savedChanges.add(changes);
+        }
+    }
+}
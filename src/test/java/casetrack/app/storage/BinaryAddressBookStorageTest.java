@@ -0,0 +1,185 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final Path JSON_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() {
+        Path jsonFilePath = JSON_TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(jsonFilePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(ALICE, new PersonBuilder(ALICE)
+                .withNotes(new Note("Visited on 1 Jan"), new Note("Needs a wheelchair – ramp at blk 12")).build());
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lazyLoad_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withNotes(new Note("First"), new Note("Second")).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, true);
+        AddressBook readBack = new AddressBook(lazyStorage.readAddressBook().get());
+        AddressBook expectedReadBack = new AddressBook(original);
+
+        // The mapped snapshot can be replaced while persons read from it have not loaded their notes yet
+        original.addPerson(HOON);
+        lazyStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(lazyStorage.readAddressBook().get()));
+        assertEquals(expectedReadBack, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_notesNotLoaded_copiedWithoutLoading() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withNotes(new Note("First"), new Note("Second")).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook readBack = lazyStorage.readAddressBook().get();
+        lazyStorage.saveAddressBook(readBack);
+        assertTrue(readBack.getPersonList().stream().allMatch(person -> person.getNotesLoader().isPresent()));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_idsKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE.withId(300));
+        original.addPerson(HOON.withId(2));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        for (boolean isLazy : new boolean[] {false, true}) {
+            List<Person> persons = new BinaryAddressBookStorage(filePath, isLazy).readAddressBook().get()
+                    .getPersonList();
+            assertEquals(300, persons.get(0).getId());
+            assertEquals(2, persons.get(1).getId());
+        }
+    }
+
+    @Test
+    public void readAddressBook_versionWithoutIds_idsAssigned() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(HOON).withTags().build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        // Rewrite the snapshot as version 1: magic, version, tag count 0, person count 1, then the person without
+        // the single byte of its ID
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] versionOneBytes = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, versionOneBytes, 0, 7);
+        versionOneBytes[4] = 1;
+        System.arraycopy(bytes, 8, versionOneBytes, 7, bytes.length - 8);
+        Files.write(filePath, versionOneBytes);
+
+        AddressBook readBack = new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(1, readBack.getPersonList().get(0).getId());
+    }
+
+    @Test
+    public void readAddressBook_convertedFromJson_sameJsonWhenConvertedBack() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook fromJson = new JsonAddressBookStorage(jsonFilePath).readAddressBook().get();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(fromJson);
+        ReadOnlyAddressBook fromBinary = new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get();
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(fromJson)),
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(fromBinary)));
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterFullSave_changesReplayedFromJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Person editedAlice = new PersonBuilder(ALICE).withIncome("3000").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.edited(ALICE, editedAlice)));
+
+        // Only the journal was written to
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+
+        BinaryAddressBookStorage reopenedStorage = new BinaryAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = reopenedStorage.replayAddressBookChanges(
+                reopenedStorage.readAddressBook().get());
+        assertEquals(addressBook, new AddressBook(readBack));
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"), BinaryAddressBookStorage.toBinaryFilePath(Paths.get("addressbook")));
+    }
+
+}
@@ -0,0 +1,190 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import casetrack.app.commons.exceptions.IllegalValueException;
+import casetrack.app.commons.util.JsonUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.AddressBookChange.NoteOperation;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class JsonAdaptedJournalEntryTest {
+
+    private static final Person ALICE_WITH_NOTES = new PersonBuilder(ALICE)
+            .withNotes(new Note("First visit"), new Note("Second visit"), new Note("Third visit")).build();
+
+    @Test
+    public void applyTo_addPerson_personAdded() throws Exception {
+        assertChangeReplayed(getTypicalAddressBook(), AddressBookChange.added(HOON));
+    }
+
+    @Test
+    public void applyTo_deletePerson_personRemoved() throws Exception {
+        assertChangeReplayed(getTypicalAddressBook(), AddressBookChange.deleted(BENSON));
+    }
+
+    @Test
+    public void applyTo_editPerson_personReplaced() throws Exception {
+        Person editedAlice = new PersonBuilder(ALICE).withName("alice pauline").withIncome("2500").build();
+        assertChangeReplayed(getTypicalAddressBook(), AddressBookChange.edited(ALICE, editedAlice));
+    }
+
+    @Test
+    public void applyTo_addNote_noteAdded() throws Exception {
+        Person editedAlice = ALICE_WITH_NOTES.addNote(new Note("Fourth visit"));
+        assertChangeReplayed(addressBookWithAliceNotes(),
+                AddressBookChange.noteChanged(ALICE_WITH_NOTES, editedAlice, NoteOperation.ADD, 3));
+    }
+
+    @Test
+    public void applyTo_editNote_noteReplaced() throws Exception {
+        Person editedAlice = ALICE_WITH_NOTES.editNote(1, new Note("Second visit, rescheduled"));
+        assertChangeReplayed(addressBookWithAliceNotes(),
+                AddressBookChange.noteChanged(ALICE_WITH_NOTES, editedAlice, NoteOperation.EDIT, 1));
+    }
+
+    @Test
+    public void applyTo_deleteNote_noteRemoved() throws Exception {
+        assertChangeReplayed(addressBookWithAliceNotes(), AddressBookChange.noteChanged(ALICE_WITH_NOTES,
+                ALICE_WITH_NOTES.removeNote(0), NoteOperation.DELETE, 0));
+        assertChangeReplayed(addressBookWithAliceNotes(), AddressBookChange.noteChanged(ALICE_WITH_NOTES,
+                ALICE_WITH_NOTES.removeNote(2), NoteOperation.DELETE, 2));
+    }
+
+    @Test
+    public void fromChange_addNote_otherNotesNotRecorded() throws Exception {
+        Person editedAlice = ALICE_WITH_NOTES.addNote(new Note("Fourth visit"));
+        String json = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.fromChange(
+                AddressBookChange.noteChanged(ALICE_WITH_NOTES, editedAlice, NoteOperation.ADD, 3)));
+        assertFalse(json.contains("First visit"));
+        assertTrue(json.contains("Fourth visit"));
+    }
+
+    @Test
+    public void fromChange_noteChangedWithoutNoteOperation_wholePersonRecorded() throws Exception {
+        // The note operation is not inferred from the notes of the person before and after the change
+        Person editedAlice = ALICE_WITH_NOTES.addNote(new Note("Fourth visit"));
+        String json = JsonUtil.toCompactJsonString(
+                JsonAdaptedJournalEntry.fromChange(AddressBookChange.edited(ALICE_WITH_NOTES, editedAlice)));
+        assertTrue(json.contains("First visit"));
+        assertChangeReplayed(addressBookWithAliceNotes(), AddressBookChange.edited(ALICE_WITH_NOTES, editedAlice));
+    }
+
+    @Test
+    public void fromChange_reset_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                JsonAdaptedJournalEntry.fromChange(AddressBookChange.reset()));
+    }
+
+    @Test
+    public void applyTo_personNotFound_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.fromChange(AddressBookChange.deleted(HOON));
+        assertThrows(IllegalValueException.class, JsonAdaptedJournalEntry.MESSAGE_PERSON_NOT_FOUND, () ->
+                entry.applyTo(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void applyTo_duplicatePerson_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.fromChange(AddressBookChange.added(ALICE));
+        assertThrows(IllegalValueException.class, JsonAdaptedJournalEntry.MESSAGE_DUPLICATE_PERSON, () ->
+                entry.applyTo(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void applyTo_invalidNoteIndex_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(JsonAdaptedJournalEntry.Type.DELETE_NOTE, null,
+                ALICE.getName().fullName, ALICE.getPhone().value, null, 0, null);
+        assertThrows(IllegalValueException.class, JsonAdaptedJournalEntry.MESSAGE_INVALID_NOTE_INDEX, () ->
+                entry.applyTo(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void fromChange_personWithId_recordedById() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person benson = addressBook.getPerson(BENSON.getName(), BENSON.getPhone()).get();
+        String json = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.fromChange(
+                AddressBookChange.deleted(benson)));
+        assertTrue(json.contains("\"id\":" + benson.getId()));
+        assertFalse(json.contains(BENSON.getPhone().value));
+    }
+
+    @Test
+    public void applyTo_editPersonById_nameAndPhoneChanged() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person alice = addressBook.getPerson(ALICE.getName(), ALICE.getPhone()).get();
+        Person editedAlice = new PersonBuilder(alice).withName("Alice Tan").withPhone("91112222").build();
+        assertChangeReplayed(addressBook, AddressBookChange.edited(alice, editedAlice));
+
+        // Later entries refer to the edited person by the same ID
+        Person storedEditedAlice = addressBook.getPerson(alice.getId()).get();
+        assertChangeReplayed(addressBook, AddressBookChange.edited(storedEditedAlice,
+                storedEditedAlice.addNote(new Note("Moved house"))));
+        assertChangeReplayed(addressBook, AddressBookChange.deleted(addressBook.getPerson(alice.getId()).get()));
+    }
+
+    @Test
+    public void applyTo_entryWithoutId_personFoundByNameAndPhone() throws Exception {
+        // Written before persons had IDs
+        String json = "{\"type\":\"DELETE_PERSON\",\"name\":\"" + BENSON.getName().fullName
+                + "\",\"phone\":\"" + BENSON.getPhone().value + "\"}";
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class).applyTo(addressBook);
+        assertFalse(addressBook.hasPerson(BENSON));
+    }
+
+    @Test
+    public void applyTo_unknownOrInvalidId_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry unknownId = new JsonAdaptedJournalEntry(JsonAdaptedJournalEntry.Type.DELETE_PERSON,
+                999L, null, null, null, null, null);
+        assertThrows(IllegalValueException.class, JsonAdaptedJournalEntry.MESSAGE_PERSON_NOT_FOUND, () ->
+                unknownId.applyTo(getTypicalAddressBook()));
+
+        JsonAdaptedJournalEntry invalidId = new JsonAdaptedJournalEntry(JsonAdaptedJournalEntry.Type.DELETE_PERSON,
+                0L, ALICE.getName().fullName, ALICE.getPhone().value, null, null, null);
+        assertThrows(IllegalValueException.class, JsonAdaptedPerson.MESSAGE_INVALID_ID, () ->
+                invalidId.applyTo(getTypicalAddressBook()));
+    }
+
+    private static AddressBook addressBookWithAliceNotes() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setPerson(ALICE, ALICE_WITH_NOTES);
+        return addressBook;
+    }
+
+    /**
+     * Asserts that the journal entry for {@code change}, after a round trip through json, turns
+     * {@code addressBook} into the same address book as applying {@code change} directly.
+     */
+    private static void assertChangeReplayed(AddressBook addressBook, AddressBookChange change) throws Exception {
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        switch (change.getType()) {
+        case ADD:
+            expectedAddressBook.addPerson(change.getEditedPerson());
+            break;
+        case SET:
+            expectedAddressBook.setPerson(change.getTarget(), change.getEditedPerson());
+            break;
+        case DELETE:
+            expectedAddressBook.removePerson(change.getTarget());
+            break;
+        default:
+            throw new AssertionError("Unexpected change type");
+        }
+
+        String json = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.fromChange(change));
+        JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class).applyTo(addressBook);
+        assertEquals(expectedAddressBook, addressBook);
+    }
+}
@@ -48,6 +48,21 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_personWithId_idKept() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON.withId(42));
+        assertEquals(42, person.toModelType().getId());
+        assertEquals(Person.NO_ID, new JsonAdaptedPerson(BENSON).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(0L, VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                        VALID_ADDRESS, VALID_INCOME, VALID_MEDICAL_INFO, VALID_TAGS, VALID_NOTES);
+        assertThrows(IllegalValueException.class, JsonAdaptedPerson.MESSAGE_INVALID_ID, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
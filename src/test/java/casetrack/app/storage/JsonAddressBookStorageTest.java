@@ -2,13 +2,16 @@ package casetrack.app.storage;
 
 import static casetrack.app.testutil.Assert.assertThrows;
 import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
 import static casetrack.app.testutil.TypicalPersons.HOON;
 import static casetrack.app.testutil.TypicalPersons.IDA;
 import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +19,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.JsonUtil;
 import casetrack.app.model.AddressBook;
+import casetrack.app.model.ModelManager;
 import casetrack.app.model.ReadOnlyAddressBook;
+import casetrack.app.model.UserPrefs;
+import casetrack.app.model.person.Note;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +93,66 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_detectedWhenRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath, false, true).saveAddressBook(original);
+        byte[] compressedBytes = Files.readAllBytes(filePath);
+        // Files compressed with gzip start with 0x1f 0x8b
+        assertEquals((byte) 0x1f, compressedBytes[0]);
+        assertEquals((byte) 0x8b, compressedBytes[1]);
+
+        // Read back by a storage with compression disabled, and saved uncompressed again
+        JsonAddressBookStorage uncompressedStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(uncompressedStorage.readAddressBook().get()));
+        uncompressedStorage.saveAddressBook(original);
+        assertTrue(Files.size(filePath) > compressedBytes.length);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, false, true)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterFullSave_changesReplayedFromJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        // First save writes the whole file
+        jsonAddressBookStorage.saveAddressBookChanges(model.getAddressBook(), model.takeUnsavedChanges());
+
+        // Later changes are only written to the journal
+        model.addPerson(HOON);
+        model.setPerson(ALICE, ALICE.addNote(new Note("Follow up on housing")));
+        model.deletePerson(BENSON);
+        jsonAddressBookStorage.saveAddressBookChanges(model.getAddressBook(), model.takeUnsavedChanges());
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        JsonAddressBookStorage restartedStorage = new JsonAddressBookStorage(filePath);
+        ReadOnlyAddressBook replayed = restartedStorage.replayAddressBookChanges(
+                restartedStorage.readAddressBook().get());
+        assertEquals(model.getAddressBook(), new AddressBook(replayed));
+    }
+
+    @Test
+    public void replayAddressBookChanges_dataFileReplaced_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        jsonAddressBookStorage.saveAddressBookChanges(model.getAddressBook(), model.takeUnsavedChanges());
+        model.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBookChanges(model.getAddressBook(), model.takeUnsavedChanges());
+
+        // Data file replaced without going through the storage, e.g. edited by hand
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(new AddressBook()), filePath);
+
+        JsonAddressBookStorage restartedStorage = new JsonAddressBookStorage(filePath);
+        ReadOnlyAddressBook replayed = restartedStorage.replayAddressBookChanges(
+                restartedStorage.readAddressBook().get());
+        assertEquals(new AddressBook(), new AddressBook(replayed));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -7,10 +7,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import casetrack.app.commons.exceptions.IllegalValueException;
 import casetrack.app.commons.util.JsonUtil;
 import casetrack.app.model.AddressBook;
+import casetrack.app.testutil.PersonBuilder;
 import casetrack.app.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +24,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +51,44 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        for (boolean isParallel : new boolean[] {false, true}) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), readModelType(TYPICAL_PERSONS_FILE, isParallel));
+        }
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        for (boolean isParallel : new boolean[] {false, true}) {
+            assertThrows(IllegalValueException.class, () -> readModelType(INVALID_PERSON_FILE, isParallel));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        for (boolean isParallel : new boolean[] {false, true}) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    readModelType(DUPLICATE_PERSON_FILE, isParallel));
+        }
+    }
+
+    @Test
+    public void readModelType_parallelMoreThanOneChunk_orderPreserved() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < JsonSerializableAddressBook.PARALLEL_LOAD_CHUNK_SIZE + 10; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Patient " + i).withPhone("9" + (1000000 + i)).build());
+        }
+        Path filePath = testFolder.resolve("largeAddressBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+
+        assertEquals(addressBook, readModelType(filePath, true));
+    }
+
+    private static AddressBook readModelType(Path filePath, boolean isParallel) throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            return JsonSerializableAddressBook.readModelType(parser, isParallel);
+        }
+    }
+
 }
@@ -0,0 +1,212 @@
+package casetrack.app.storage;
+
+import static casetrack.app.testutil.Assert.assertThrows;
+import static casetrack.app.testutil.TypicalPersons.ALICE;
+import static casetrack.app.testutil.TypicalPersons.BENSON;
+import static casetrack.app.testutil.TypicalPersons.HOON;
+import static casetrack.app.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import casetrack.app.commons.exceptions.DataLoadingException;
+import casetrack.app.commons.util.FileUtil;
+import casetrack.app.model.AddressBook;
+import casetrack.app.model.AddressBookChange;
+import casetrack.app.model.person.Note;
+import casetrack.app.model.person.Person;
+import casetrack.app.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        for (boolean isParallelLoadEnabled : new boolean[] {false, true}) {
+            Path directoryPath = testFolder.resolve("shards-" + isParallelLoadEnabled);
+            ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, isParallelLoadEnabled);
+            AddressBook original = getTypicalAddressBook();
+            original.setPerson(ALICE, new PersonBuilder(ALICE).withNotes(new Note("Visited on 1 Jan")).build());
+
+            storage.saveAddressBook(original);
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+            original.addPerson(HOON);
+            storage.saveAddressBook(original);
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+            assertEquals(original.getPersonList().size(), readShards(directoryPath).size());
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidShard_throwsDataLoadingException() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        Path shardPath = readShards(directoryPath).keySet().iterator().next();
+        FileUtil.writeToFile(shardPath, "not a person");
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directoryPath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        Files.delete(readShards(directoryPath).keySet().iterator().next());
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directoryPath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterRead_onlyChangedShardsWritten() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        Map<Path, String> shardsBefore = readShards(directoryPath);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person alice = addressBook.getPerson(ALICE.getName(), ALICE.getPhone()).get();
+        Person benson = addressBook.getPerson(BENSON.getName(), BENSON.getPhone()).get();
+        Person editedAlice = new PersonBuilder(alice).withIncome("3000").build();
+        addressBook.setPerson(alice, editedAlice);
+        addressBook.removePerson(benson);
+        addressBook.addPerson(HOON);
+        // The address book stores copies of the persons given to it with their IDs, as the model records them
+        Person storedEditedAlice = addressBook.getPerson(alice.getId()).get();
+        Person storedHoon = addressBook.getPerson(HOON.getName(), HOON.getPhone()).get();
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.edited(alice, storedEditedAlice),
+                AddressBookChange.deleted(benson), AddressBookChange.added(storedHoon)));
+
+        Map<Path, String> shardsAfter = readShards(directoryPath);
+        Map<Path, String> unchangedShards = new HashMap<>(shardsBefore);
+        unchangedShards.keySet().retainAll(shardsAfter.keySet());
+        // The shards of Alice and Benson are removed, and new shards are written for edited Alice and Hoon
+        assertEquals(shardsBefore.size() - 2, unchangedShards.size());
+        assertEquals(shardsBefore.size() - 2 + 2, shardsAfter.size());
+        unchangedShards.forEach((shardPath, content) -> assertEquals(content, shardsAfter.get(shardPath)));
+
+        ShardedAddressBookStorage reopenedStorage = new ShardedAddressBookStorage(directoryPath);
+        assertEquals(addressBook, new AddressBook(reopenedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterRead_changesLoggedWithoutRewritingManifest() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        Path manifestPath = directoryPath.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        Path logPath = directoryPath.resolve(JsonShardManifestLog.LOG_FILE_NAME);
+        String manifestBefore = FileUtil.readFromFile(manifestPath);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person benson = addressBook.getPerson(BENSON.getName(), BENSON.getPhone()).get();
+        addressBook.removePerson(benson);
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.deleted(benson)));
+        AddressBook savedAddressBook = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        Person storedHoon = addressBook.getPerson(HOON.getName(), HOON.getPhone()).get();
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.added(storedHoon)));
+
+        assertEquals(manifestBefore, FileUtil.readFromFile(manifestPath));
+        assertEquals(addressBook,
+                new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get()));
+
+        // A change only partially written is ignored, and the next save rewrites the manifest
+        String log = FileUtil.readFromFile(logPath);
+        FileUtil.writeToFile(logPath, log.substring(0, log.length() - 5));
+        ShardedAddressBookStorage reopenedStorage = new ShardedAddressBookStorage(directoryPath);
+        assertEquals(savedAddressBook, new AddressBook(reopenedStorage.readAddressBook().get()));
+        reopenedStorage.saveAddressBookChanges(savedAddressBook, List.of());
+        assertFalse(Files.exists(logPath));
+        assertEquals(savedAddressBook,
+                new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_unlistedShard_deletedOnlyWhenReadOrSavedWhole() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        // Left behind by a save that failed before writing the manifest
+        Path unlistedShardPath = directoryPath.resolve("999" + ShardedAddressBookStorage.SHARD_FILE_EXTENSION);
+        FileUtil.writeToFile(unlistedShardPath, "{}");
+
+        addressBook.addPerson(HOON);
+        Person storedHoon = addressBook.getPerson(HOON.getName(), HOON.getPhone()).get();
+        storage.saveAddressBookChanges(addressBook, List.of(AddressBookChange.added(storedHoon)));
+        assertTrue(Files.exists(unlistedShardPath));
+
+        new ShardedAddressBookStorage(directoryPath).readAddressBook();
+        assertFalse(Files.exists(unlistedShardPath));
+
+        FileUtil.writeToFile(unlistedShardPath, "{}");
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(unlistedShardPath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_withoutRead_wholeAddressBookSaved() throws Exception {
+        Path directoryPath = testFolder.resolve("shards");
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        new ShardedAddressBookStorage(directoryPath).saveAddressBookChanges(addressBook,
+                List.of(AddressBookChange.added(HOON)));
+
+        ShardedAddressBookStorage reopenedStorage = new ShardedAddressBookStorage(directoryPath);
+        assertEquals(addressBook, new AddressBook(reopenedStorage.readAddressBook().get()));
+        assertEquals(addressBook.getPersonList().size(), readShards(directoryPath).size());
+    }
+
+    @Test
+    public void replayAddressBookChanges_sameAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertTrue(new ShardedAddressBookStorage(testFolder).replayAddressBookChanges(addressBook) == addressBook);
+    }
+
+    @Test
+    public void toShardDirectoryPath() {
+        assertEquals(Paths.get("data", "addressbook-shards"),
+                ShardedAddressBookStorage.toShardDirectoryPath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook-shards"),
+                ShardedAddressBookStorage.toShardDirectoryPath(Paths.get("addressbook")));
+    }
+
+    /**
+     * Returns the contents of the shard files in {@code directoryPath}, by path.
+     */
+    private static Map<Path, String> readShards(Path directoryPath) throws IOException {
+        Map<Path, String> shards = new HashMap<>();
+        try (Stream<Path> paths = Files.list(directoryPath)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                String fileName = path.getFileName().toString();
+                if (fileName.endsWith(ShardedAddressBookStorage.SHARD_FILE_EXTENSION)
+                        && !fileName.equals(ShardedAddressBookStorage.MANIFEST_FILE_NAME)) {
+                    shards.put(path, FileUtil.readFromFile(path));
+                }
+            }
+        }
+        return shards;
+    }
+
+}